@@ -0,0 +1,60 @@
+package com.cenfotec.proyectoqa.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>Publica las métricas de DateMetrics como eventos de Flight Recorder. DateMetrics carga esta clase por
+ * reflexión solo si jdk.jfr está disponible. Los eventos solo se guardan si la grabación los habilita, por ejemplo:</p>
+ *  <pre><code class="language-java">
+ *      java -Dproyectoqa.metrics=true -XX:StartFlightRecording=settings=profile ...
+ *  </code></pre>
+ */
+final class JfrDateEvents implements DateMetrics.EventSink {
+
+    private static final String VALIDATION_FAILURE = "VALIDATION_FAILURE";
+
+    /**
+     * <p>Evento de una operación de fecha.</p>
+     */
+    @Name("com.cenfotec.proyectoqa.DateOperation")
+    @Label("Date Operation")
+    @Category("ProyectoQA")
+    @Description("Operación instrumentada de GregorianDate")
+    static final class DateOperationEvent extends Event {
+        @Label("Operation")
+        String operation;
+
+        @Label("Latency")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+
+        @Label("Cycles")
+        @Description("Ciclos de 400 años recorridos por addDays")
+        long cycles;
+    }
+
+    @Override
+    public void operation(final DateMetrics.Operation operation, final long nanos, final long cycles) {
+        final DateOperationEvent event = new DateOperationEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.latency   = nanos;
+            event.cycles    = cycles;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void validationFailure() {
+        final DateOperationEvent event = new DateOperationEvent();
+        if (event.shouldCommit()) {
+            event.operation = VALIDATION_FAILURE;
+            event.commit();
+        }
+    }
+}
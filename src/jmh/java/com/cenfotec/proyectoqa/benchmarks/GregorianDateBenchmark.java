@@ -0,0 +1,167 @@
+package com.cenfotec.proyectoqa.benchmarks;
+
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks de las operaciones de GregorianDate, cada uno con su equivalente de java.time.LocalDate
+ * como referencia (los métodos con prefijo localDate).</p>
+ * <p>Las fechas se toman de un arreglo aleatorio que se recorre de forma circular, para que el JIT no pueda
+ * precalcular el resultado. Los benchmarks de equals comparan cada fecha con una copia igual, que es otra
+ * instancia, así ambos recorren todos los campos.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GregorianDateBenchmark {
+
+    private static final int SIZE       = 1 << 10;
+    private static final int INDEX_MASK = SIZE - 1;
+    private static final long SEED      = 42;
+
+    /**
+     * <p>Desplazamiento pequeño, dentro del mismo mes o del siguiente.</p>
+     */
+    private static final long SMALL_OFFSET = 17;
+
+    /**
+     * <p>Desplazamiento grande, de unos 270 000 años. LocalDate lo soporta porque su año máximo es 999 999 999.</p>
+     */
+    private static final long HUGE_OFFSET = 100_000_000L;
+
+    private final long[] years            = new long[SIZE];
+    private final Month[] months          = new Month[SIZE];
+    private final int[] days              = new int[SIZE];
+    private final GregorianDate[] dates   = new GregorianDate[SIZE];
+    private final GregorianDate[] copies  = new GregorianDate[SIZE];
+    private final LocalDate[] localDates  = new LocalDate[SIZE];
+    private final LocalDate[] localCopies = new LocalDate[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < SIZE; i++) {
+            final LocalDate date = LocalDate.ofEpochDay(random.nextInt(200_000) - 100_000);
+            years[i]       = date.getYear();
+            months[i]      = Month.fromNumber(date.getMonthValue());
+            days[i]        = date.getDayOfMonth();
+            dates[i]       = new GregorianDate(years[i], months[i], days[i]);
+            copies[i]      = new GregorianDate(years[i], months[i], days[i]);
+            localDates[i]  = date;
+            localCopies[i] = LocalDate.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        }
+    }
+
+    /**
+     * @return La siguiente posición del arreglo.
+     */
+    private int next() {
+        index = (index + 1) & INDEX_MASK;
+        return index;
+    }
+
+    @Benchmark
+    public GregorianDate constructor() {
+        final int i = next();
+        return new GregorianDate(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public LocalDate localDateOf() {
+        final int i = next();
+        return LocalDate.of((int) years[i], months[i].toNumber(), days[i]);
+    }
+
+    @Benchmark
+    public boolean isValidDate() {
+        final int i = next();
+        return GregorianDate.isValidDate(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public GregorianDate addDaysSmall() {
+        return dates[next()].addDays(SMALL_OFFSET);
+    }
+
+    @Benchmark
+    public LocalDate localDatePlusDaysSmall() {
+        return localDates[next()].plusDays(SMALL_OFFSET);
+    }
+
+    @Benchmark
+    public GregorianDate addDaysHuge() {
+        return dates[next()].addDays(HUGE_OFFSET);
+    }
+
+    @Benchmark
+    public LocalDate localDatePlusDaysHuge() {
+        return localDates[next()].plusDays(HUGE_OFFSET);
+    }
+
+    /**
+     * <p>GregorianDate guarda el día de la semana después de la primera llamada, por eso se crea una fecha nueva
+     * en cada operación; si no, solo se mediría la lectura de un campo. LocalDate.of se mide igual.</p>
+     */
+    @Benchmark
+    public Object getDayOfWeek() {
+        final int i = next();
+        return new GregorianDate(years[i], months[i], days[i]).getDayOfWeek();
+    }
+
+    @Benchmark
+    public Object localDateGetDayOfWeek() {
+        final int i = next();
+        return LocalDate.of((int) years[i], months[i].toNumber(), days[i]).getDayOfWeek();
+    }
+
+    @Benchmark
+    public String toStringTuple() {
+        return dates[next()].toString();
+    }
+
+    @Benchmark
+    public String localDateToString() {
+        return localDates[next()].toString();
+    }
+
+    @Benchmark
+    public int hashCodeDate() {
+        return dates[next()].hashCode();
+    }
+
+    @Benchmark
+    public int localDateHashCode() {
+        return localDates[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsDate() {
+        final int i = next();
+        return dates[i].equals(copies[i]);
+    }
+
+    @Benchmark
+    public boolean localDateEquals() {
+        final int i = next();
+        return localDates[i].equals(localCopies[i]);
+    }
+}
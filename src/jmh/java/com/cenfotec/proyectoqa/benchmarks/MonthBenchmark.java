@@ -0,0 +1,63 @@
+package com.cenfotec.proyectoqa.benchmarks;
+
+import com.cenfotec.proyectoqa.api.Month;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Benchmarks de la enumeración Month con java.time.Month como referencia.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthBenchmark {
+
+    private static final int MONTHS_IN_YEAR = 12;
+
+    /**
+     * <p>Desplazamiento que da varias vueltas al año.</p>
+     */
+    private static final int OFFSET = 29;
+
+    private int number;
+
+    /**
+     * @return El siguiente número de mes. \(1\leq mes \leq 12\)
+     */
+    private int next() {
+        number = number % MONTHS_IN_YEAR + 1;
+        return number;
+    }
+
+    @Benchmark
+    public Month fromNumber() {
+        return Month.fromNumber(next());
+    }
+
+    @Benchmark
+    public java.time.Month javaTimeOf() {
+        return java.time.Month.of(next());
+    }
+
+    @Benchmark
+    public Month offset() {
+        return Month.fromNumber(next()).offset(OFFSET);
+    }
+
+    @Benchmark
+    public java.time.Month javaTimePlus() {
+        return java.time.Month.of(next()).plus(OFFSET);
+    }
+}
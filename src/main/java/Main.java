@@ -1,18 +1,266 @@
-import com.cenfotec.proyectoqa.api.Date;
-import com.cenfotec.proyectoqa.api.GregorianDate;
-import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.DateFormatter;
+import com.cenfotec.proyectoqa.api.DateParser;
+import com.cenfotec.proyectoqa.api.PackedDates;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Herramienta de línea de comandos que aplica una operación a un archivo de fechas, una por línea,
+ * con el formato yyyy-MM-dd o (YYYY, MM, DD).</p>
+ * <p>El archivo de entrada se divide en bloques que terminan en un salto de línea. Cada bloque se mapea a memoria
+ * y se procesa en paralelo sin crear objetos por línea: las fechas se interpretan con DateParser, se operan
+ * empacadas con PackedDates y se escriben con DateFormatter. Los resultados se escriben en orden con un
+ * FileChannel, una línea de salida por cada línea de entrada. Las líneas inválidas producen INVALID
+ * (o false en la operación validate).</p>
+ * <p>El tamaño de los bloques se configura con la propiedad del sistema proyectoqa.main.chunkSize
+ * (16 MiB por defecto).</p>
+ */
 public class Main {
-    public static void main(String[] args) {
-        final int year    = 1644;
-        final int day     = 25;
-        final Month month = Month.FEBRUARY;
-        final Date date   = Date.of(year, month, day);
-
-        System.out.println(date);
-        System.out.println(GregorianDate.isValidDate(year, month, day));
-        System.out.println(date.nextDay());
-        System.out.println(date.getDayOfWeek().ordinal());
-        System.out.println(date.isLeapYear());
+
+    private static final String USAGE =
+            "Usage: java Main <dayofweek|nextday|adddays|leap|validate> <input> <output> [days]";
+
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+    private static final int PROBE_SIZE         = 256;
+    private static final int MAX_OUTPUT_LINE    = 32;
+
+    private static final byte NEW_LINE        = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final byte[] INVALID = ascii("INVALID");
+    private static final byte[] TRUE    = ascii("true");
+    private static final byte[] FALSE   = ascii("false");
+
+    /**
+     * <p>Operaciones disponibles.</p>
+     */
+    private enum Operation {
+        DAYOFWEEK,
+        NEXTDAY,
+        ADDDAYS,
+        LEAP,
+        VALIDATE
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        final Operation operation = args.length >= 3 ? operation(args[0]) : null;
+        if (operation == null || (operation == Operation.ADDDAYS) != (args.length == 4) || args.length > 4) {
+            usage();
+            return;
+        }
+        final long days;
+        try {
+            days = operation == Operation.ADDDAYS ? Long.parseLong(args[3]) : 0;
+        } catch (NumberFormatException e) {
+            usage();
+            return;
+        }
+        run(operation, days, Paths.get(args[1]), Paths.get(args[2]));
+    }
+
+    /**
+     * <p>Imprime el uso y termina con código 1.</p>
+     */
+    private static void usage() {
+        System.err.println(USAGE);
+        System.exit(1);
+    }
+
+    /**
+     * @param name Nombre de la operación.
+     * @return Operación o null si no existe.
+     */
+    private static Operation operation(final String name) {
+        for (Operation operation : Operation.values()) {
+            if (operation.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Procesa los bloques en paralelo y escribe sus resultados en orden. Se mantiene como máximo el doble de
+     * bloques que de procesadores en memoria, para que la escritura limite el avance de la lectura.</p>
+     * @param operation Operación.
+     * @param days Días que suma la operación adddays.
+     * @param input Archivo de entrada.
+     * @param output Archivo de salida.
+     */
+    private static void run(final Operation operation, final long days, final Path input, final Path output)
+            throws IOException, InterruptedException, ExecutionException {
+        final int threads          = Runtime.getRuntime().availableProcessors();
+        final int chunkSize        = Integer.getInteger("proyectoqa.main.chunkSize", DEFAULT_CHUNK_SIZE);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final Deque<Future<ByteBuffer>> pending = new ArrayDeque<>();
+            final long size = in.size();
+            long start      = 0;
+            while (start < size) {
+                final long end = chunkEnd(in, Math.min(size, start + chunkSize), size);
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new IOException("Line too long at byte " + start);
+                }
+                final MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                pending.addLast(pool.submit(() -> process(chunk, operation, days)));
+                if (pending.size() >= 2 * threads) {
+                    write(out, pending.removeFirst().get());
+                }
+                start = end;
+            }
+            while (!pending.isEmpty()) {
+                write(out, pending.removeFirst().get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>Busca el primer salto de línea a partir de from leyendo pocos bytes a la vez.</p>
+     * @param channel Archivo de entrada.
+     * @param from Posición inicial de la búsqueda.
+     * @param size Tamaño del archivo.
+     * @return Posición siguiente al salto de línea o el tamaño del archivo.
+     */
+    private static long chunkEnd(final FileChannel channel, final long from, final long size) throws IOException {
+        long position = from;
+        while (position < size) {
+            final ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+            final int read         = channel.read(probe, position);
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEW_LINE) {
+                    return position + i + 1;
+                }
+            }
+            if (read <= 0) {
+                break;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /**
+     * <p>Aplica la operación a cada línea del bloque.</p>
+     * @param chunk Bloque mapeado, termina en un salto de línea o en el final del archivo.
+     * @param operation Operación.
+     * @param days Días que suma la operación adddays.
+     * @return Resultados del bloque.
+     */
+    private static ByteBuffer process(final ByteBuffer chunk, final Operation operation, final long days) {
+        final int limit = chunk.limit();
+        byte[] result   = new byte[Math.max(MAX_OUTPUT_LINE, limit)];
+        int position    = 0;
+        int lineStart   = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != NEW_LINE) {
+                lineEnd++;
+            }
+            final int length = lineEnd > lineStart && chunk.get(lineEnd - 1) == CARRIAGE_RETURN
+                    ? lineEnd - lineStart - 1
+                    : lineEnd - lineStart;
+            if (result.length - position < MAX_OUTPUT_LINE) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            position = apply(operation, days, DateParser.parse(chunk, lineStart, length), result, position);
+            result[position++] = NEW_LINE;
+            lineStart = lineEnd + 1;
+        }
+        return ByteBuffer.wrap(result, 0, position);
+    }
+
+    /**
+     * @param operation Operación.
+     * @param days Días que suma la operación adddays.
+     * @param packed Fecha empacada o PackedDates.INVALID.
+     * @param result Destino.
+     * @param position Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int apply(final Operation operation, final long days, final long packed,
+                             final byte[] result, final int position) {
+        if (operation == Operation.VALIDATE) {
+            return copy(packed != PackedDates.INVALID ? TRUE : FALSE, result, position);
+        }
+        if (packed == PackedDates.INVALID) {
+            return copy(INVALID, result, position);
+        }
+        switch (operation) {
+            case DAYOFWEEK:
+                return copy(PackedDates.dayOfWeek(packed).name(), result, position);
+            case LEAP:
+                return copy(PackedDates.isLeapYear(packed) ? TRUE : FALSE, result, position);
+            default:
+                final long shifted;
+                try {
+                    shifted = PackedDates.addDays(packed, operation == Operation.NEXTDAY ? 1 : days);
+                } catch (IllegalArgumentException | ArithmeticException e) {
+                    return copy(INVALID, result, position);
+                }
+                return DateFormatter.formatIsoTo(result, position, PackedDates.year(shifted),
+                        PackedDates.month(shifted), PackedDates.day(shifted));
+        }
+    }
+
+    /**
+     * <p>Escribe todos los bytes del buffer en el archivo de salida.</p>
+     * @param channel Archivo de salida.
+     * @param buffer Resultados de un bloque.
+     */
+    private static void write(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * @param source Bytes a copiar.
+     * @param result Destino.
+     * @param position Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int copy(final byte[] source, final byte[] result, final int position) {
+        System.arraycopy(source, 0, result, position, source.length);
+        return position + source.length;
+    }
+
+    /**
+     * @param source Texto ASCII a copiar.
+     * @param result Destino.
+     * @param position Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int copy(final String source, final byte[] result, final int position) {
+        for (int i = 0; i < source.length(); i++) {
+            result[position + i] = (byte) source.charAt(i);
+        }
+        return position + source.length();
+    }
+
+    /**
+     * @param text Texto ASCII.
+     * @return Bytes del texto.
+     */
+    private static byte[] ascii(final String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
     }
 }
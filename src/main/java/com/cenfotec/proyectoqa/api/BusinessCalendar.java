@@ -0,0 +1,201 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * <p>BusinessCalendar calcula días hábiles a partir de una máscara de fin de semana (ver DayOfWeek.mask)
+ * y un conjunto de feriados. Es inmutable y se puede compartir entre hilos.</p>
+ * <p>Los días hábiles se cuentan en dos niveles. Primero se numeran los días laborales de la semana desde
+ * el domingo 1969-12-28, lo que Weekdays.count calcula en tiempo constante:</p>
+ *  <pre><code class="language-java">
+ *      weekdays(e) = Weekdays.count(DayOfWeek.SUNDAY, e - anchor, ~weekendMask)
+ *  </code></pre>
+ * <p>Luego se restan los feriados anteriores, que se guardan como un arreglo ordenado con su número de día laboral,
+ * así basta una búsqueda binaria. Por lo tanto addBusinessDays y businessDaysBetween cuestan
+ * \(O(\log h)\) donde h es la cantidad de feriados, sin importar la distancia entre las fechas.</p>
+ */
+public final class BusinessCalendar {
+
+    /**
+     * <p>El día época -4 (1969-12-28) fue domingo.</p>
+     */
+    private static final long SUNDAY_EPOCH_DAY = -DayOfWeek.THURSDAY.ordinal();
+
+    private static final int DAYS_IN_WEEK = DayOfWeek.daysInWeek();
+    private static final int ALL_DAYS     = (1 << DAYS_IN_WEEK) - 1;
+
+    private final int weekendMask;
+    private final int businessMask;
+    private final int businessDaysInWeek;
+
+    /**
+     * <p>nth[i] es el día de la semana del i-ésimo día laboral de la semana.</p>
+     */
+    private final int[] nth;
+
+    /**
+     * <p>Número de día laboral de cada feriado que no cae en fin de semana, ordenados y sin repetidos.</p>
+     */
+    private final long[] holidays;
+
+    /**
+     * @param weekendMask Máscara con los días que no son laborales.
+     * @param holidays Feriados, los que caen en fin de semana se ignoran.
+     * @throws IllegalArgumentException Si la máscara es inválida o todos los días son fin de semana.
+     */
+    public BusinessCalendar(final int weekendMask, final Collection<? extends Date> holidays) {
+        if ((weekendMask & ~ALL_DAYS) != 0 || weekendMask == ALL_DAYS) {
+            throw new IllegalArgumentException("Invalid weekend mask");
+        }
+        this.weekendMask        = weekendMask;
+        this.businessMask       = ~weekendMask & ALL_DAYS;
+        this.businessDaysInWeek = Integer.bitCount(businessMask);
+        this.nth                = new int[businessDaysInWeek];
+        int business = 0;
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            if ((businessMask & 1 << day) != 0) {
+                nth[business++] = day;
+            }
+        }
+
+        final long[] indexes = new long[holidays.size()];
+        int size = 0;
+        for (Date holiday : holidays) {
+            final long epochDay = holiday.toEpochDay();
+            if (isWeekday(epochDay)) {
+                indexes[size++] = weekdays(epochDay);
+            }
+        }
+        Arrays.sort(indexes, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || indexes[unique - 1] != indexes[i]) {
+                indexes[unique++] = indexes[i];
+            }
+        }
+        this.holidays = Arrays.copyOf(indexes, unique);
+    }
+
+    /**
+     * <p>Calendario con fin de semana sábado y domingo.</p>
+     * @param holidays Feriados.
+     * @return Calendario de días hábiles.
+     */
+    public static BusinessCalendar saturdayAndSunday(final Date... holidays) {
+        return new BusinessCalendar(DayOfWeek.mask(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), Arrays.asList(holidays));
+    }
+
+    /**
+     * @return Máscara con los días que no son laborales.
+     */
+    public int getWeekendMask() {
+        return weekendMask;
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Si la fecha no es fin de semana ni feriado.
+     */
+    public boolean isBusinessDay(final Date date) {
+        final long epochDay = date.toEpochDay();
+        return isWeekday(epochDay)
+                && Arrays.binarySearch(holidays, weekdays(epochDay)) < 0;
+    }
+
+    /**
+     * <p>Cuenta los días hábiles en el intervalo [start, end).</p>
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @return Días hábiles, negativo si la fecha final es anterior a la inicial.
+     */
+    public long businessDaysBetween(final Date start, final Date end) {
+        return businessDaysBefore(end.toEpochDay()) - businessDaysBefore(start.toEpochDay());
+    }
+
+    /**
+     * <p>Desplaza la fecha la cantidad de días hábiles indicada. Si days es positivo el resultado es el
+     * days-ésimo día hábil posterior a la fecha, si es negativo el days-ésimo día hábil anterior y si es cero
+     * la misma fecha, aunque no sea un día hábil.</p>
+     * @param date Fecha.
+     * @param days Días hábiles que se quieren sumar o restar.
+     * @return Día hábil desplazado.
+     */
+    public GregorianDate addBusinessDays(final Date date, final long days) {
+        return GregorianDate.ofEpochDay(addBusinessDays(date.toEpochDay(), days));
+    }
+
+    /**
+     * <p>Igual que addBusinessDays(Date, long) pero sobre días época, para no crear fechas intermedias.</p>
+     * @param epochDay Día época.
+     * @param days Días hábiles que se quieren sumar o restar.
+     * @return Día época del día hábil desplazado.
+     */
+    long addBusinessDays(final long epochDay, final long days) {
+        if (days == 0) {
+            return epochDay;
+        }
+        final long index = days > 0
+                ? businessDaysBefore(epochDay + 1) + days - 1
+                : businessDaysBefore(epochDay) + days;
+        return businessDay(index);
+    }
+
+    /**
+     * @param epochDay Día época.
+     * @return Cantidad de días hábiles entre 1969-12-28 y el día anterior a epochDay, negativo antes de 1969.
+     */
+    private long businessDaysBefore(final long epochDay) {
+        final long weekdays = weekdays(epochDay);
+        return weekdays - holidaysBefore(weekdays);
+    }
+
+    /**
+     * <p>Calcula el día época del día hábil número index. Como el arreglo holidays[i] - i no decrece,
+     * la cantidad j de feriados anteriores es la cantidad de i con \(holidays[i] - i \leq index\), que se busca
+     * de forma binaria, y el resultado es el día laboral número index + j.</p>
+     * @param index Número de día hábil desde 1969-12-28.
+     * @return Día época.
+     */
+    private long businessDay(final long index) {
+        int low  = 0;
+        int high = holidays.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (holidays[middle] - middle <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        final long weekday = index + low;
+        return SUNDAY_EPOCH_DAY
+                + Math.floorDiv(weekday, (long) businessDaysInWeek) * DAYS_IN_WEEK
+                + nth[(int) Math.floorMod(weekday, (long) businessDaysInWeek)];
+    }
+
+    /**
+     * @param weekdays Número de día laboral.
+     * @return Cantidad de feriados con número menor.
+     */
+    private int holidaysBefore(final long weekdays) {
+        final int position = Arrays.binarySearch(holidays, weekdays);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * @param epochDay Día época.
+     * @return Cantidad de días laborales entre 1969-12-28 y el día anterior a epochDay.
+     */
+    private long weekdays(final long epochDay) {
+        return Weekdays.count(DayOfWeek.SUNDAY, epochDay - SUNDAY_EPOCH_DAY, businessMask);
+    }
+
+    /**
+     * @param epochDay Día época.
+     * @return Si el día no es fin de semana.
+     */
+    private boolean isWeekday(final long epochDay) {
+        return (businessMask & DayOfWeek.ofEpochDay(epochDay).mask()) != 0;
+    }
+}
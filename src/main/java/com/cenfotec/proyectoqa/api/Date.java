@@ -1,9 +1,9 @@
 package com.cenfotec.proyectoqa.api;
 
 /**
- * Interface que representa una fecha.
+ * Interface que representa una fecha. Las fechas se ordenan cronológicamente.
  */
-public interface Date {
+public interface Date extends Comparable<Date> {
     /**
      *
      * Este método agrega o substrae días a una fecha.
@@ -30,6 +30,19 @@ public interface Date {
      */
     int getYearDays();
 
+    /**
+     * <p>Este método calcula el día época, o sea los días transcurridos desde 1970-01-01.</p>
+     * @return Día época.
+     */
+    long toEpochDay();
+
+    /**
+     * <p>Este método calcula la cantidad de días desde la fecha actual hasta otra fecha.</p>
+     * @param other Fecha final.
+     * @return Días hasta la otra fecha, negativo si la otra fecha es anterior.
+     */
+    long daysUntil(final Date other);
+
     /**
      * <p>Este método calcula el día de la semana correspondiente a la fecha.</p>.
      * @return Día de la semana
@@ -62,7 +75,7 @@ public interface Date {
      * @return Fecha
      */
     static Date of(long year, Month month, int day) {
-        return new GregorianDate(year, month, day);
+        return GregorianDate.of(year, month, day);
     }
 
     /**
@@ -73,7 +86,7 @@ public interface Date {
      * @return Fecha
      */
     static Date of(long year, int month, int day) {
-        return new GregorianDate(year, month, day);
+        return GregorianDate.of(year, month, day);
     }
 
 
@@ -0,0 +1,294 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>DateBatch aplica operaciones de fecha sobre arreglos y listas grandes en paralelo. El trabajo se divide en
+ * bloques contiguos que se ejecutan en un ForkJoinPool, en cualquier ExecutorService o, en JDK 21 o superior, en
+ * hilos virtuales. El hilo que llama espera a que terminen todos los bloques.</p>
+ * <p>Cada hilo escribe solo en el rango de su bloque en el arreglo de salida. El tamaño de los bloques es múltiplo
+ * de 64 elementos, así dos bloques vecinos comparten como máximo una línea de caché de 64 bytes en el borde y no
+ * hay false sharing dentro de los bloques. Hay unos 4 bloques por hilo para balancear la carga, y los arreglos con
+ * menos de proyectoqa.batch.minChunk elementos (por defecto 4096) se procesan en el hilo que llama.</p>
+ *  <pre><code class="language-java">
+ *      DayOfWeek[] days = DateBatch.common().getDayOfWeek(dates);
+ *      long[] epochDays = DateBatch.of(pool).mapToLong(dates, Date::toEpochDay);
+ *  </code></pre>
+ */
+public final class DateBatch {
+
+    /**
+     * <p>Los bloques son múltiplos de esta cantidad de elementos, un boolean ocupa un byte así que 64 elementos
+     * ocupan al menos una línea de caché.</p>
+     */
+    static final int CACHE_LINE_ELEMENTS = 64;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MIN_CHUNK         = Math.max(CACHE_LINE_ELEMENTS,
+            Integer.getInteger("proyectoqa.batch.minChunk", 4096));
+
+    private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    private DateBatch(final ExecutorService executor, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism");
+        }
+        this.executor    = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return DateBatch sobre ForkJoinPool.commonPool().
+     */
+    public static DateBatch common() {
+        return new DateBatch(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * @param pool ForkJoinPool.
+     * @return DateBatch sobre el pool, con su paralelismo.
+     */
+    public static DateBatch of(final ForkJoinPool pool) {
+        return new DateBatch(pool, pool.getParallelism());
+    }
+
+    /**
+     * @param executor Ejecutor, DateBatch no lo cierra.
+     * @param parallelism Cantidad de tareas que el ejecutor corre a la vez.
+     * @return DateBatch sobre el ejecutor.
+     * @throws IllegalArgumentException Si el paralelismo es menor a 1.
+     */
+    public static DateBatch of(final ExecutorService executor, final int parallelism) {
+        return new DateBatch(executor, parallelism);
+    }
+
+    /**
+     * <p>Usa un hilo virtual por bloque si el JDK tiene Executors.newVirtualThreadPerTaskExecutor (JDK 21 o
+     * superior), si no usa ForkJoinPool.commonPool(). El método se busca por reflexión porque el proyecto compila
+     * para Java 8.</p>
+     * @return DateBatch sobre hilos virtuales o sobre el pool común.
+     */
+    public static DateBatch virtualThreads() {
+        final ExecutorService executor = VirtualThreads.EXECUTOR;
+        return executor == null ? common()
+                : new DateBatch(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @return Si virtualThreads() usa hilos virtuales.
+     */
+    public static boolean hasVirtualThreads() {
+        return VirtualThreads.EXECUTOR != null;
+    }
+
+    /**
+     * @param dates Fechas.
+     * @param function Función a aplicar.
+     * @param output Arreglo de resultados, del mismo tamaño que dates.
+     * @param <T> Tipo de las fechas.
+     * @param <R> Tipo de los resultados.
+     * @throws IllegalArgumentException Si los tamaños no coinciden.
+     */
+    public <T extends Date, R> void map(final T[] dates, final Function<? super T, ? extends R> function,
+                                        final R[] output) {
+        checkLength(dates.length, output.length);
+        run(dates.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                output[i] = function.apply(dates[i]);
+            }
+        });
+    }
+
+    /**
+     * @param dates Fechas, se copian a un arreglo antes de dividirlas.
+     * @param function Función a aplicar.
+     * @param <T> Tipo de las fechas.
+     * @param <R> Tipo de los resultados.
+     * @return Lista inmutable de resultados en el orden de dates.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Date, R> List<R> map(final List<? extends T> dates,
+                                           final Function<? super T, ? extends R> function) {
+        final T[] input  = (T[]) dates.toArray(new Date[0]);
+        final R[] output = (R[]) new Object[input.length];
+        map(input, function, output);
+        return Collections.unmodifiableList(Arrays.asList(output));
+    }
+
+    /**
+     * @param dates Fechas.
+     * @param function Función a aplicar.
+     * @param <T> Tipo de las fechas.
+     * @return Resultados en el orden de dates.
+     */
+    public <T extends Date> long[] mapToLong(final T[] dates, final ToLongFunction<? super T> function) {
+        final long[] output = new long[dates.length];
+        run(dates.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                output[i] = function.applyAsLong(dates[i]);
+            }
+        });
+        return output;
+    }
+
+    /**
+     * @param dates Fechas.
+     * @param function Función a aplicar.
+     * @param <T> Tipo de las fechas.
+     * @return Resultados en el orden de dates.
+     */
+    public <T extends Date> int[] mapToInt(final T[] dates, final ToIntFunction<? super T> function) {
+        final int[] output = new int[dates.length];
+        run(dates.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                output[i] = function.applyAsInt(dates[i]);
+            }
+        });
+        return output;
+    }
+
+    /**
+     * @param dates Fechas.
+     * @param days Días a sumar.
+     * @return Fechas con los días sumados.
+     */
+    public GregorianDate[] addDays(final Date[] dates, final long days) {
+        final GregorianDate[] output = new GregorianDate[dates.length];
+        map(dates, date -> date.addDays(days), output);
+        return output;
+    }
+
+    /**
+     * @param dates Fechas.
+     * @return Día de la semana de cada fecha.
+     */
+    public DayOfWeek[] getDayOfWeek(final Date[] dates) {
+        final DayOfWeek[] output = new DayOfWeek[dates.length];
+        map(dates, Date::getDayOfWeek, output);
+        return output;
+    }
+
+    /**
+     * <p>Valida columnas de año, mes y día sin crear fechas ni lanzar excepciones.</p>
+     * @param years Años.
+     * @param months Meses. \(1\leq mes \leq 12\)
+     * @param days Días.
+     * @return Si cada fila es una fecha válida.
+     * @throws IllegalArgumentException Si los tamaños no coinciden.
+     */
+    public boolean[] isValid(final long[] years, final int[] months, final int[] days) {
+        checkLength(years.length, months.length);
+        checkLength(years.length, days.length);
+        final boolean[] output = new boolean[years.length];
+        run(years.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                output[i] = PackedDates.isValid(years[i], months[i], days[i]);
+            }
+        });
+        return output;
+    }
+
+    /**
+     * @param size Cantidad de elementos.
+     * @return Tamaño de bloque, múltiplo de CACHE_LINE_ELEMENTS.
+     */
+    int chunkSize(final int size) {
+        final long target  = Math.max(MIN_CHUNK, ((long) size + parallelism * CHUNKS_PER_THREAD - 1)
+                / (parallelism * CHUNKS_PER_THREAD));
+        final long aligned = (target + CACHE_LINE_ELEMENTS - 1) / CACHE_LINE_ELEMENTS * CACHE_LINE_ELEMENTS;
+        return (int) Math.min(aligned, Integer.MAX_VALUE - CACHE_LINE_ELEMENTS);
+    }
+
+    /**
+     * <p>Ejecuta la tarea sobre bloques de [0, size) y espera a que terminen.</p>
+     * @param size Cantidad de elementos.
+     * @param chunk Tarea de un bloque.
+     */
+    private void run(final int size, final Chunk chunk) {
+        final int chunkSize = chunkSize(size);
+        if (size <= chunkSize) {
+            chunk.apply(0, size);
+            return;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>((size - 1) / chunkSize + 1);
+        for (int from = 0; from < size; from += chunkSize) {
+            final int start = from;
+            final int end   = (int) Math.min(size, (long) from + chunkSize);
+            tasks.add(() -> {
+                chunk.apply(start, end);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @param expected Tamaño esperado.
+     * @param actual Tamaño recibido.
+     */
+    private static void checkLength(final int expected, final int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Length mismatch");
+        }
+    }
+
+    /**
+     * <p>Tarea sobre el rango [from, to) de un bloque.</p>
+     */
+    @FunctionalInterface
+    private interface Chunk {
+        void apply(int from, int to);
+    }
+
+    /**
+     * <p>Ejecutor de hilos virtuales compartido, se crea la primera vez que se usa.</p>
+     */
+    private static final class VirtualThreads {
+        private static final ExecutorService EXECUTOR = create();
+
+        private VirtualThreads() {
+        }
+
+        /**
+         * @return Ejecutor de un hilo virtual por tarea o null si el JDK no tiene hilos virtuales.
+         */
+        private static ExecutorService create() {
+            try {
+                return (ExecutorService) Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD).invoke(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+}
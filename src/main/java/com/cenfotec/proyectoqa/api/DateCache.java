@@ -0,0 +1,144 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>DateCache guarda instancias canónicas de GregorianDate para no volver a validar ni crear
+ * fechas que se usan con frecuencia.</p>
+ * <p>Las fechas dentro de una ventana de años se guardan en un arreglo indexado directamente por año, mes y día.
+ * Las demás fechas se guardan en una tabla de asignación directa indexada por un hash de la fecha empacada, sin
+ * objetos Long ni nodos de mapa. Cada posición guarda una sola fecha y una fecha nueva reemplaza a la que estaba en
+ * su posición, así la tabla nunca crece y las fechas que dejan de usarse se desalojan solas.</p>
+ * <p>Publicar una instancia sin sincronización es seguro: el año, el mes y el día de GregorianDate son final, y
+ * derived es un caché racy single-check idempotente que solo se calcula a partir de esos campos, así que un hilo
+ * que lo vea en 0 simplemente lo vuelve a calcular con el mismo valor. En el peor caso dos hilos crean la misma
+ * fecha y uno de los dos valores se descarta.</p>
+ * <p>La instancia compartida usa la ventana del año actual \(\pm\) proyectoqa.dateCache.years (10 por defecto)
+ * y proyectoqa.dateCache.maxEntries (65536 por defecto) entradas fuera de la ventana.</p>
+ */
+public final class DateCache {
+
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final int MAX_DAYS       = 31;
+    private static final int DAYS_IN_YEAR   = MONTHS_IN_YEAR * MAX_DAYS;
+
+    private static final long DEFAULT_YEARS       = 10;
+    private static final int DEFAULT_MAX_ENTRIES  = 1 << 16;
+    private static final long MILLIS_IN_DAY       = 86_400_000L;
+    private static final long GOLDEN_RATIO        = 0x9E3779B97F4A7C15L;
+
+    private final long minYear;
+    private final long maxYear;
+    private final GregorianDate[] window;
+    private final GregorianDate[] slots;
+
+    /**
+     * <p>Inicialización perezosa de la instancia compartida.</p>
+     */
+    private static final class Shared {
+        private static final DateCache INSTANCE = createShared();
+    }
+
+    /**
+     * @param minYear Primer año de la ventana.
+     * @param maxYear Último año de la ventana.
+     * @param maxEntries Cantidad máxima de fechas fuera de la ventana, se redondea hacia abajo a una potencia de 2.
+     * @throws IllegalArgumentException Si la ventana o la cantidad de entradas son inválidas.
+     */
+    public DateCache(final long minYear, final long maxYear, final int maxEntries) {
+        if (maxYear < minYear || maxEntries < 0
+                || (maxYear - minYear + 1) > Integer.MAX_VALUE / DAYS_IN_YEAR) {
+            throw new IllegalArgumentException();
+        }
+        this.minYear    = minYear;
+        this.maxYear    = maxYear;
+        this.window     = new GregorianDate[(int) (maxYear - minYear + 1) * DAYS_IN_YEAR];
+        this.slots      = new GregorianDate[Integer.highestOneBit(maxEntries)];
+    }
+
+    /**
+     * @return La instancia compartida que usa GregorianDate.of.
+     */
+    public static DateCache shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * <p>Crea la instancia compartida alrededor del año actual, según las propiedades del sistema.</p>
+     * @return Caché compartida.
+     */
+    private static DateCache createShared() {
+        final long years       = Long.getLong("proyectoqa.dateCache.years", DEFAULT_YEARS);
+        final int maxEntries   = Integer.getInteger("proyectoqa.dateCache.maxEntries", DEFAULT_MAX_ENTRIES);
+        final long currentYear = GregorianDate.ofEpochDay(System.currentTimeMillis() / MILLIS_IN_DAY).getYear();
+        return new DateCache(currentYear - years, currentYear + years, maxEntries);
+    }
+
+    /**
+     * <p>Retorna la instancia canónica de la fecha. Solo se valida la fecha la primera vez que se solicita.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es inválida.
+     */
+    public GregorianDate get(final long year, final Month month, final int day) {
+        if (month == null || day < 1 || day > MAX_DAYS) {
+            return new GregorianDate(year, month, day);
+        }
+        if (minYear <= year && year <= maxYear) {
+            final int index = (int) (year - minYear) * DAYS_IN_YEAR
+                    + month.ordinal() * MAX_DAYS
+                    + day - 1;
+            GregorianDate date = window[index];
+            if (date == null) {
+                date = new GregorianDate(year, month, day);
+                window[index] = date;
+            }
+            return date;
+        }
+        if (slots.length == 0 || year > PackedDates.MAX_YEAR) {
+            return new GregorianDate(year, month, day);
+        }
+        final int index    = slot(PackedDates.pack(year, month.toNumber(), day));
+        GregorianDate date = slots[index];
+        if (date == null || date.getYear() != year || date.getMonth() != month || date.getDay() != day) {
+            date         = new GregorianDate(year, month, day);
+            slots[index] = date;
+        }
+        return date;
+    }
+
+    /**
+     * <p>Retorna la instancia canónica de la fecha.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es inválida.
+     */
+    public GregorianDate get(final long year, final int month, final int day) {
+        return get(year, Month.fromNumber(month), day);
+    }
+
+    /**
+     * <p>Recorre toda la tabla, es para diagnóstico y pruebas.</p>
+     * @return Cantidad de fechas guardadas fuera de la ventana.
+     */
+    public int size() {
+        int size = 0;
+        for (GregorianDate date : slots) {
+            if (date != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * <p>Hash multiplicativo de Fibonacci, los 32 bits altos del producto mezclan año, mes y día.</p>
+     * @param packed Fecha empacada.
+     * @return Posición en la tabla.
+     */
+    private int slot(final long packed) {
+        return (int) (packed * GOLDEN_RATIO >>> Integer.SIZE) & (slots.length - 1);
+    }
+}
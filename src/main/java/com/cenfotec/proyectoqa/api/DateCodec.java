@@ -0,0 +1,307 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>DateCodec serializa fechas en binario a partir de su día época, con dos formatos:</p>
+ * <ul>
+ *     <li>Fijo: el día época como un int de 4 bytes (big-endian en DataOutput, el orden del buffer en ByteBuffer).
+ *     Limita las fechas a los años \(1583\leq year \leq 5881580\).</li>
+ *     <li>Varint: el día época codificado con zig-zag y luego en grupos de 7 bits, el bit más significativo de cada
+ *     byte indica que sigue otro byte. Las fechas cercanas a 1970 ocupan 3 bytes.</li>
+ * </ul>
+ * <p>Los métodos masivos escriben la cantidad de fechas como varint y luego cada fecha como la diferencia con la
+ * anterior en varint, así una lista ordenada de fechas cercanas ocupa aproximadamente un byte por fecha.</p>
+ * <p>Los métodos de ByteBuffer usan la posición relativa del buffer, igual que ByteBuffer.putInt.</p>
+ */
+public final class DateCodec {
+
+    /**
+     * <p>Bytes que ocupa una fecha con el formato fijo.</p>
+     */
+    public static final int FIXED_BYTES = Integer.BYTES;
+
+    /**
+     * <p>Bytes máximos que ocupa un varint de 64 bits.</p>
+     */
+    public static final int MAX_VARINT_BYTES = 10;
+
+    private static final int VARINT_BITS  = 7;
+    private static final int VARINT_MASK  = (1 << VARINT_BITS) - 1;
+    private static final int CONTINUATION = 1 << VARINT_BITS;
+
+    private DateCodec() {
+    }
+
+    /**
+     * @param out Destino.
+     * @param date Fecha.
+     * @throws IOException Si no se puede escribir.
+     * @throws ArithmeticException Si el día época no cabe en un int.
+     */
+    public static void writeFixed(final DataOutput out, final Date date) throws IOException {
+        out.writeInt(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * @param in Fuente.
+     * @return Fecha.
+     * @throws IOException Si no se puede leer.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     */
+    public static GregorianDate readFixed(final DataInput in) throws IOException {
+        return GregorianDate.ofEpochDay(in.readInt());
+    }
+
+    /**
+     * @param out Destino.
+     * @param date Fecha.
+     * @throws IOException Si no se puede escribir.
+     */
+    public static void writeVarint(final DataOutput out, final Date date) throws IOException {
+        long value = zigZag(date.toEpochDay());
+        while ((value & ~VARINT_MASK) != 0) {
+            out.writeByte((int) (value & VARINT_MASK) | CONTINUATION);
+            value >>>= VARINT_BITS;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * @param in Fuente.
+     * @return Fecha.
+     * @throws IOException Si no se puede leer.
+     * @throws IllegalArgumentException Si el varint es inválido o la fecha es anterior a 1583.
+     */
+    public static GregorianDate readVarint(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_BITS) {
+            final int current = in.readUnsignedByte();
+            value |= (long) (current & VARINT_MASK) << shift;
+            if ((current & CONTINUATION) == 0) {
+                return GregorianDate.ofEpochDay(unZigZag(value));
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * @param buffer Destino.
+     * @param date Fecha.
+     * @throws ArithmeticException Si el día época no cabe en un int.
+     * @throws BufferOverflowException Si no hay espacio.
+     */
+    public static void putFixed(final ByteBuffer buffer, final Date date) {
+        buffer.putInt(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * @param buffer Fuente.
+     * @return Fecha.
+     * @throws BufferUnderflowException Si no hay suficientes bytes.
+     */
+    public static GregorianDate getFixed(final ByteBuffer buffer) {
+        return GregorianDate.ofEpochDay(buffer.getInt());
+    }
+
+    /**
+     * @param buffer Destino.
+     * @param date Fecha.
+     * @throws BufferOverflowException Si no hay espacio.
+     */
+    public static void putVarint(final ByteBuffer buffer, final Date date) {
+        putVarLong(buffer, zigZag(date.toEpochDay()));
+    }
+
+    /**
+     * @param buffer Fuente.
+     * @return Fecha.
+     * @throws IllegalArgumentException Si el varint es inválido.
+     * @throws BufferUnderflowException Si no hay suficientes bytes.
+     */
+    public static GregorianDate getVarint(final ByteBuffer buffer) {
+        return GregorianDate.ofEpochDay(unZigZag(getVarLong(buffer)));
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Bytes que ocupa la fecha con el formato varint.
+     */
+    public static int varintSize(final Date date) {
+        return varLongSize(zigZag(date.toEpochDay()));
+    }
+
+    /**
+     * <p>Escribe las fechas con el formato fijo, sin la cantidad.</p>
+     * @param buffer Destino.
+     * @param dates Fechas.
+     * @throws BufferOverflowException Si no hay espacio.
+     */
+    public static void putFixed(final ByteBuffer buffer, final Date[] dates) {
+        if (buffer.remaining() < (long) dates.length * FIXED_BYTES) {
+            throw new BufferOverflowException();
+        }
+        for (Date date : dates) {
+            putFixed(buffer, date);
+        }
+    }
+
+    /**
+     * <p>Lee count fechas con el formato fijo.</p>
+     * @param buffer Fuente.
+     * @param count Cantidad de fechas.
+     * @return Fechas.
+     * @throws BufferUnderflowException Si no hay suficientes bytes.
+     */
+    public static GregorianDate[] getFixed(final ByteBuffer buffer, final int count) {
+        if (buffer.remaining() < (long) count * FIXED_BYTES) {
+            throw new BufferUnderflowException();
+        }
+        final GregorianDate[] dates = new GregorianDate[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = getFixed(buffer);
+        }
+        return dates;
+    }
+
+    /**
+     * <p>Escribe la cantidad de fechas y cada fecha como la diferencia con la anterior.</p>
+     * <p>El tamaño no se conoce hasta codificar, así que no se revisa el espacio antes de escribir. Si no hay
+     * espacio o una fecha no se puede representar, la posición del buffer vuelve a donde estaba, aunque los bytes
+     * después de ella pueden haber cambiado.</p>
+     * @param buffer Destino.
+     * @param dates Fechas.
+     * @throws BufferOverflowException Si no hay espacio.
+     * @throws ArithmeticException Si la diferencia entre dos días época no se puede representar con un long.
+     */
+    public static void encode(final ByteBuffer buffer, final Collection<? extends Date> dates) {
+        final int start = buffer.position();
+        try {
+            putVarLong(buffer, dates.size());
+            long previous = 0;
+            for (Date date : dates) {
+                final long epochDay = date.toEpochDay();
+                putVarLong(buffer, zigZag(Math.subtractExact(epochDay, previous)));
+                previous = epochDay;
+            }
+        } catch (BufferOverflowException | ArithmeticException e) {
+            ((Buffer) buffer).position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * <p>Escribe la cantidad de fechas y cada fecha como la diferencia con la anterior, con las mismas reglas de
+     * encode(ByteBuffer, Collection).</p>
+     * @param buffer Destino.
+     * @param dates Fechas.
+     * @throws BufferOverflowException Si no hay espacio.
+     * @throws ArithmeticException Si la diferencia entre dos días época no se puede representar con un long.
+     */
+    public static void encode(final ByteBuffer buffer, final Date[] dates) {
+        encode(buffer, Arrays.asList(dates));
+    }
+
+    /**
+     * <p>Lee las fechas escritas con encode.</p>
+     * @param buffer Fuente.
+     * @return Fechas.
+     * @throws IllegalArgumentException Si los datos son inválidos.
+     * @throws ArithmeticException Si algún día época no se puede representar con un long.
+     * @throws BufferUnderflowException Si no hay suficientes bytes.
+     */
+    public static GregorianDate[] decodeArray(final ByteBuffer buffer) {
+        final long count = getVarLong(buffer);
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid count");
+        }
+        final GregorianDate[] dates = new GregorianDate[(int) count];
+        long epochDay = 0;
+        for (int i = 0; i < dates.length; i++) {
+            epochDay = Math.addExact(epochDay, unZigZag(getVarLong(buffer)));
+            dates[i] = GregorianDate.ofEpochDay(epochDay);
+        }
+        return dates;
+    }
+
+    /**
+     * <p>Lee las fechas escritas con encode.</p>
+     * @param buffer Fuente.
+     * @return Lista de fechas.
+     * @throws IllegalArgumentException Si los datos son inválidos.
+     * @throws BufferUnderflowException Si no hay suficientes bytes.
+     */
+    public static List<GregorianDate> decode(final ByteBuffer buffer) {
+        final GregorianDate[] dates = decodeArray(buffer);
+        final List<GregorianDate> list = new ArrayList<>(dates.length);
+        for (GregorianDate date : dates) {
+            list.add(date);
+        }
+        return list;
+    }
+
+    /**
+     * <p>Codificación zig-zag: 0, -1, 1, -2, 2... se convierten en 0, 1, 2, 3, 4...</p>
+     * @param value Valor con signo.
+     * @return Valor sin signo.
+     */
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    /**
+     * @param value Valor codificado con zig-zag.
+     * @return Valor con signo.
+     */
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @param buffer Destino.
+     * @param value Valor sin signo.
+     */
+    private static void putVarLong(final ByteBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0) {
+            buffer.put((byte) ((remaining & VARINT_MASK) | CONTINUATION));
+            remaining >>>= VARINT_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * @param buffer Fuente.
+     * @return Valor sin signo.
+     */
+    private static long getVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += VARINT_BITS) {
+            final int current = buffer.get();
+            value |= (long) (current & VARINT_MASK) << shift;
+            if ((current & CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * @param value Valor sin signo.
+     * @return Bytes que ocupa el varint.
+     */
+    private static int varLongSize(final long value) {
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(value | 1);
+        return (bits + VARINT_BITS - 1) / VARINT_BITS;
+    }
+}
@@ -0,0 +1,268 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>DateColumn es un contenedor columnar de fechas. En lugar de guardar un objeto GregorianDate por fecha,
+ * guarda el día época de cada fecha en un int contiguo, ya sea en un arreglo del heap o en un ByteBuffer
+ * directo fuera del heap.</p>
+ * <p>Las operaciones masivas recorren un int[] con ciclos simples sobre primitivos y reutilizan la aritmética
+ * de GregorianDate y PackedDates, por lo que no crean un objeto por fecha. En el heap se recorre el arreglo
+ * directamente, fuera del heap se copia primero el buffer completo con una sola lectura masiva.</p>
+ * <p>Como el día época se guarda en un int, las fechas están limitadas a los años
+ * \(1583\leq year \leq 5881580\).</p>
+ */
+public final class DateColumn {
+
+    private final int[] heap;
+    private final IntBuffer direct;
+
+    /**
+     * @param heap Días época en el heap o null si la columna está fuera del heap.
+     * @param direct Días época fuera del heap o null si la columna está en el heap.
+     */
+    private DateColumn(final int[] heap, final IntBuffer direct) {
+        this.heap   = heap;
+        this.direct = direct;
+    }
+
+    /**
+     * <p>Crea una columna en el heap respaldada por un int[]. Todas las fechas inician en 1970-01-01.</p>
+     * @param size Cantidad de fechas.
+     * @return Columna de fechas.
+     */
+    public static DateColumn onHeap(final int size) {
+        return new DateColumn(new int[size], null);
+    }
+
+    /**
+     * <p>Crea una columna fuera del heap respaldada por un ByteBuffer directo con el orden de bytes nativo.
+     * Todas las fechas inician en 1970-01-01.</p>
+     * @param size Cantidad de fechas.
+     * @return Columna de fechas.
+     */
+    public static DateColumn offHeap(final int size) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(Math.multiplyExact(size, Integer.BYTES))
+                .order(ByteOrder.nativeOrder());
+        return new DateColumn(null, buffer.asIntBuffer());
+    }
+
+    /**
+     * <p>Crea una columna en el heap copiando los días época.</p>
+     * @param epochDays Días época.
+     * @return Columna de fechas.
+     * @throws IllegalArgumentException Si algún día época es anterior a 1583.
+     */
+    public static DateColumn ofEpochDays(final int... epochDays) {
+        final DateColumn column = onHeap(epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            column.setEpochDay(i, epochDays[i]);
+        }
+        return column;
+    }
+
+    /**
+     * <p>Crea una columna en el heap con las fechas dadas.</p>
+     * @param dates Fechas
+     * @return Columna de fechas.
+     * @throws ArithmeticException Si alguna fecha no se puede representar con un día época int.
+     */
+    public static DateColumn of(final Date... dates) {
+        final DateColumn column = onHeap(dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            column.set(i, dates[i]);
+        }
+        return column;
+    }
+
+    /**
+     * @return Cantidad de fechas.
+     */
+    public int size() {
+        return heap != null ? heap.length : direct.capacity();
+    }
+
+    /**
+     * @return Si la columna está fuera del heap.
+     */
+    public boolean isOffHeap() {
+        return heap == null;
+    }
+
+    /**
+     * @param index Posición
+     * @return Día época de la fecha en la posición.
+     */
+    public int getEpochDay(final int index) {
+        return heap != null ? heap[index] : direct.get(index);
+    }
+
+    /**
+     * @param index Posición
+     * @param epochDay Día época.
+     * @throws IllegalArgumentException Si el día época es anterior a 1583.
+     */
+    public void setEpochDay(final int index, final int epochDay) {
+        if (epochDay < GregorianDate.MIN_EPOCH_DAY) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        put(index, epochDay);
+    }
+
+    /**
+     * @param index Posición
+     * @return Fecha en la posición.
+     */
+    public GregorianDate get(final int index) {
+        return GregorianDate.ofEpochDay(getEpochDay(index));
+    }
+
+    /**
+     * @param index Posición
+     * @param date Fecha
+     * @throws ArithmeticException Si la fecha no se puede representar con un día época int.
+     */
+    public void set(final int index, final Date date) {
+        put(index, Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * <p>Crea una nueva columna, del mismo tipo de memoria, con todas las fechas desplazadas offset días.</p>
+     * @param offset Días que se quieren sumar o restar.
+     * @return Nueva columna desplazada.
+     * @throws IllegalArgumentException Si alguna fecha resultante es anterior a 1583.
+     * @throws ArithmeticException Si alguna fecha resultante no se puede representar con un día época int.
+     */
+    public DateColumn shift(final long offset) {
+        final int[] values  = values();
+        final int[] shifted = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            final long epochDay = Math.addExact(values[i], offset);
+            if (epochDay < GregorianDate.MIN_EPOCH_DAY) {
+                throw new IllegalArgumentException("Invalid date");
+            }
+            shifted[i] = Math.toIntExact(epochDay);
+        }
+        return wrap(shifted);
+    }
+
+    /**
+     * <p>Calcula el día de la semana de cada fecha directamente del día época con DayOfWeek.ofEpochDay.</p>
+     * @return Arreglo con el ordinal de DayOfWeek de cada fecha, del 0 (domingo) al 6 (sábado).
+     */
+    public int[] daysOfWeek() {
+        final int[] values = values();
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = DayOfWeek.ofEpochDay(values[i]).ordinal();
+        }
+        return result;
+    }
+
+    /**
+     * @return Arreglo con el año de cada fecha.
+     */
+    public long[] years() {
+        final int[] values  = values();
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = PackedDates.year(PackedDates.ofEpochDay(values[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @return Arreglo con el mes de cada fecha. \(1\leq mes \leq 12\)
+     */
+    public int[] months() {
+        final int[] values = values();
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = PackedDates.month(PackedDates.ofEpochDay(values[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @return Arreglo con el día del mes de cada fecha.
+     */
+    public int[] days() {
+        final int[] values = values();
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = PackedDates.day(PackedDates.ofEpochDay(values[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @return Arreglo con cada fecha empacada con PackedDates.
+     */
+    public long[] toPacked() {
+        final int[] values  = values();
+        final long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = PackedDates.ofEpochDay(values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Crea una nueva columna, del mismo tipo de memoria, con las fechas cuyo día época cumple el predicado.
+     * Se conserva el orden original.</p>
+     * @param predicate Predicado sobre el día época.
+     * @return Nueva columna filtrada.
+     */
+    public DateColumn filter(final IntPredicate predicate) {
+        final int[] values   = values();
+        final int[] selected = new int[values.length];
+        int count            = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (predicate.test(values[i])) {
+                selected[count++] = values[i];
+            }
+        }
+        return wrap(Arrays.copyOf(selected, count));
+    }
+
+    /**
+     * @param index Posición
+     * @param epochDay Día época.
+     */
+    private void put(final int index, final int epochDay) {
+        if (heap != null) {
+            heap[index] = epochDay;
+        } else {
+            direct.put(index, epochDay);
+        }
+    }
+
+    /**
+     * @return El arreglo del heap o una copia del buffer directo hecha con una sola lectura masiva.
+     */
+    private int[] values() {
+        if (heap != null) {
+            return heap;
+        }
+        final int[] values = new int[direct.capacity()];
+        direct.duplicate().get(values);
+        return values;
+    }
+
+    /**
+     * @param epochDays Días época, el arreglo pasa a ser de la columna si está en el heap.
+     * @return Una columna con el mismo tipo de memoria que esta.
+     */
+    private DateColumn wrap(final int[] epochDays) {
+        if (heap != null) {
+            return new DateColumn(epochDays, null);
+        }
+        final DateColumn result = offHeap(epochDays.length);
+        result.direct.duplicate().put(epochDays);
+        return result;
+    }
+}
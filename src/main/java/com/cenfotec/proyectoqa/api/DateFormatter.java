@@ -0,0 +1,216 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>DateFormatter escribe fechas con el formato {@code (YYYY, MM, DD)} de GregorianDate.toString()
+ * y con el formato ISO-8601 {@code yyyy-MM-dd}. Es la operación inversa de DateParser.</p>
+ * <p>Los dígitos se escriben directamente en un StringBuilder o en un byte[] ASCII, sin interpretar un patrón
+ * de formato ni convertir los números a objetos. El año se rellena con ceros hasta 4 dígitos, igual que
+ * {@code String.format("%04d", year)}.</p>
+ */
+public final class DateFormatter {
+
+    private static final int YEAR_DIGITS  = 4;
+    private static final int FIELD_DIGITS = 2;
+    private static final int RADIX        = 10;
+
+    private static final String TUPLE_SEPARATOR = ", ";
+    private static final char TUPLE_START       = '(';
+    private static final char TUPLE_END         = ')';
+    private static final char ISO_SEPARATOR     = '-';
+
+    /**
+     * <p>Potencias de 10 que caben en un long, para obtener los dígitos del año de izquierda a derecha.</p>
+     */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        long power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= RADIX;
+        }
+    }
+
+    private DateFormatter() {
+    }
+
+    /**
+     * <p>Escribe la fecha con el formato (YYYY, MM, DD).</p>
+     * @param builder Destino.
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return El mismo builder.
+     */
+    public static StringBuilder formatTo(final StringBuilder builder,
+                                         final long year, final int month, final int day) {
+        builder.append(TUPLE_START);
+        appendYear(builder, year);
+        builder.append(TUPLE_SEPARATOR);
+        appendField(builder, month);
+        builder.append(TUPLE_SEPARATOR);
+        appendField(builder, day);
+        return builder.append(TUPLE_END);
+    }
+
+    /**
+     * <p>Escribe la fecha con el formato ISO-8601 yyyy-MM-dd.</p>
+     * @param builder Destino.
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return El mismo builder.
+     */
+    public static StringBuilder formatIsoTo(final StringBuilder builder,
+                                            final long year, final int month, final int day) {
+        appendYear(builder, year);
+        builder.append(ISO_SEPARATOR);
+        appendField(builder, month);
+        builder.append(ISO_SEPARATOR);
+        appendField(builder, day);
+        return builder;
+    }
+
+    /**
+     * <p>Escribe la fecha en bytes ASCII con el formato (YYYY, MM, DD).</p>
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Posición siguiente al último byte escrito.
+     * @throws IndexOutOfBoundsException Si la fecha no cabe en el arreglo.
+     */
+    public static int formatTo(final byte[] bytes, final int offset,
+                               final long year, final int month, final int day) {
+        checkRange(bytes, offset, tupleLength(year));
+        int pos = offset;
+        bytes[pos++] = TUPLE_START;
+        pos = writeYear(bytes, pos, year);
+        pos = writeSeparator(bytes, pos);
+        pos = writeField(bytes, pos, month);
+        pos = writeSeparator(bytes, pos);
+        pos = writeField(bytes, pos, day);
+        bytes[pos++] = TUPLE_END;
+        return pos;
+    }
+
+    /**
+     * <p>Escribe la fecha en bytes ASCII con el formato ISO-8601 yyyy-MM-dd.</p>
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Posición siguiente al último byte escrito.
+     * @throws IndexOutOfBoundsException Si la fecha no cabe en el arreglo.
+     */
+    public static int formatIsoTo(final byte[] bytes, final int offset,
+                                  final long year, final int month, final int day) {
+        checkRange(bytes, offset, isoLength(year));
+        int pos = offset;
+        pos = writeYear(bytes, pos, year);
+        bytes[pos++] = ISO_SEPARATOR;
+        pos = writeField(bytes, pos, month);
+        bytes[pos++] = ISO_SEPARATOR;
+        return writeField(bytes, pos, day);
+    }
+
+    /**
+     * @param year Año
+     * @return Cantidad de caracteres del formato (YYYY, MM, DD).
+     */
+    public static int tupleLength(final long year) {
+        return yearDigits(year) + 2 * (FIELD_DIGITS + TUPLE_SEPARATOR.length()) + 2;
+    }
+
+    /**
+     * @param year Año
+     * @return Cantidad de caracteres del formato yyyy-MM-dd.
+     */
+    public static int isoLength(final long year) {
+        return yearDigits(year) + 2 * (FIELD_DIGITS + 1);
+    }
+
+    /**
+     * @param year Año no negativo.
+     * @return Cantidad de dígitos del año, al menos 4.
+     */
+    private static int yearDigits(final long year) {
+        int digits = YEAR_DIGITS;
+        while (digits < POWERS_OF_TEN.length && year >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @param length Cantidad de bytes a escribir.
+     */
+    private static void checkRange(final byte[] bytes, final int offset, final int length) {
+        if (offset < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * @param builder Destino.
+     * @param year Año no negativo.
+     */
+    private static void appendYear(final StringBuilder builder, final long year) {
+        for (int i = yearDigits(year) - 1; i >= 0; i--) {
+            builder.append((char) ('0' + year / POWERS_OF_TEN[i] % RADIX));
+        }
+    }
+
+    /**
+     * @param builder Destino.
+     * @param value Número de 2 dígitos.
+     */
+    private static void appendField(final StringBuilder builder, final int value) {
+        builder.append((char) ('0' + value / RADIX))
+                .append((char) ('0' + value % RADIX));
+    }
+
+    /**
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @param year Año no negativo.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int writeYear(final byte[] bytes, final int offset, final long year) {
+        final int end = offset + yearDigits(year);
+        long value    = year;
+        for (int pos = end - 1; pos >= offset; pos--) {
+            bytes[pos] = (byte) ('0' + value % RADIX);
+            value /= RADIX;
+        }
+        return end;
+    }
+
+    /**
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @param value Número de 2 dígitos.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int writeField(final byte[] bytes, final int offset, final int value) {
+        bytes[offset]     = (byte) ('0' + value / RADIX);
+        bytes[offset + 1] = (byte) ('0' + value % RADIX);
+        return offset + FIELD_DIGITS;
+    }
+
+    /**
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     */
+    private static int writeSeparator(final byte[] bytes, final int offset) {
+        for (int i = 0; i < TUPLE_SEPARATOR.length(); i++) {
+            bytes[offset + i] = (byte) TUPLE_SEPARATOR.charAt(i);
+        }
+        return offset + TUPLE_SEPARATOR.length();
+    }
+}
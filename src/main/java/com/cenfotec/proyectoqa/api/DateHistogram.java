@@ -0,0 +1,239 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>DateHistogram cuenta fechas por día de la semana, mes, año o día época y se puede usar desde muchos hilos a
+ * la vez.</p>
+ * <p>Igual que LongAdder reparte sus celdas, los hilos se reparten entre una cantidad fija de arreglos de
+ * contadores según un hash del id del hilo: la potencia de 2 mayor o igual al doble de procesadores, como máximo
+ * 64. Cada registro es un getAndAdd sobre el arreglo del hilo y como pocos hilos comparten un arreglo casi nunca
+ * compiten. Los arreglos se crean la primera vez que un hilo los usa y nunca se descartan, así la memoria queda
+ * acotada en \(buckets \cdot arreglos\) contadores aunque se creen y terminen muchos hilos, por ejemplo hilos
+ * virtuales. Los conteos se suman al leerlos, por lo que una lectura concurrente puede no incluir los registros
+ * más recientes.</p>
+ * <p>Las fechas fuera del rango de un histograma por año o por día época se cuentan aparte en outOfRange.</p>
+ *  <pre><code class="language-java">
+ *      DateHistogram histogram = DateHistogram.byDayOfWeek();
+ *      dates.parallelStream().forEach(histogram::record);
+ *      long mondays = histogram.count(DayOfWeek.MONDAY.ordinal());
+ *  </code></pre>
+ */
+public final class DateHistogram {
+
+    /**
+     * <p>Campo de la fecha que define las posiciones del histograma.</p>
+     */
+    public enum Field {
+        DAY_OF_WEEK,
+        MONTH,
+        YEAR,
+        EPOCH_DAY
+    }
+
+    private static final int DAYS_IN_WEEK   = 7;
+    private static final int MONTHS_IN_YEAR = 12;
+
+    /**
+     * <p>Contadores de relleno antes y después de cada arreglo, una línea de caché de 64 bytes, para que los
+     * arreglos de hilos distintos no compartan líneas de caché.</p>
+     */
+    private static final int PADDING = 8;
+
+    private static final int MAX_STRIPES   = 64;
+    private static final int STRIPES       = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(2 * Runtime.getRuntime().availableProcessors() - 1) << 1);
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final Field field;
+    private final long origin;
+    private final int buckets;
+
+    /**
+     * <p>Arreglos de contadores, null hasta que algún hilo los usa. La última posición de cada arreglo cuenta las
+     * fechas fuera de rango.</p>
+     */
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    private DateHistogram(final Field field, final long origin, final long buckets) {
+        if (buckets < 0 || buckets >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        this.field   = field;
+        this.origin  = origin;
+        this.buckets = (int) buckets;
+    }
+
+    /**
+     * @return Histograma con una posición por día de la semana, en el orden de DayOfWeek.
+     */
+    public static DateHistogram byDayOfWeek() {
+        return new DateHistogram(Field.DAY_OF_WEEK, 0, DAYS_IN_WEEK);
+    }
+
+    /**
+     * @return Histograma con una posición por mes, en el orden de Month.
+     */
+    public static DateHistogram byMonth() {
+        return new DateHistogram(Field.MONTH, 0, MONTHS_IN_YEAR);
+    }
+
+    /**
+     * @param fromYear Primer año incluido.
+     * @param toYear Último año excluido.
+     * @return Histograma con una posición por año, la posición i corresponde al año fromYear + i.
+     * @throws IllegalArgumentException Si el rango es inválido.
+     */
+    public static DateHistogram byYear(final long fromYear, final long toYear) {
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        return new DateHistogram(Field.YEAR, fromYear, toYear - fromYear);
+    }
+
+    /**
+     * @param range Rango de fechas.
+     * @return Histograma con una posición por día del rango, la posición i corresponde a range.get(i).
+     * @throws IllegalArgumentException Si el rango es demasiado grande.
+     */
+    public static DateHistogram byEpochDay(final DateRange range) {
+        return new DateHistogram(Field.EPOCH_DAY, range.getStart().toEpochDay(), range.size());
+    }
+
+    /**
+     * @param date Fecha.
+     */
+    public void record(final Date date) {
+        record(date, 1);
+    }
+
+    /**
+     * @param date Fecha.
+     * @param count Cantidad a sumar.
+     */
+    public void record(final Date date, final long count) {
+        stripe().getAndAdd(PADDING + bucket(date), count);
+    }
+
+    /**
+     * @return Campo del histograma.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return Cantidad de posiciones.
+     */
+    public int buckets() {
+        return buckets;
+    }
+
+    /**
+     * @param bucket Posición. \(0\leq bucket &lt; buckets\)
+     * @return Cantidad de fechas registradas en la posición.
+     * @throws IndexOutOfBoundsException Si la posición es inválida.
+     */
+    public long count(final int bucket) {
+        if (bucket < 0 || bucket >= buckets) {
+            throw new IndexOutOfBoundsException(Integer.toString(bucket));
+        }
+        return sum(bucket);
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Cantidad de fechas registradas en la posición de la fecha, o outOfRange si está fuera del rango.
+     */
+    public long count(final Date date) {
+        return sum(bucket(date));
+    }
+
+    /**
+     * @return Cantidad de fechas fuera del rango del histograma.
+     */
+    public long outOfRange() {
+        return sum(buckets);
+    }
+
+    /**
+     * @return Copia de los conteos de todas las posiciones.
+     */
+    public long[] counts() {
+        final long[] counts = new long[buckets];
+        for (int s = 0; s < STRIPES; s++) {
+            final AtomicLongArray stripe = stripes.get(s);
+            for (int i = 0; stripe != null && i < buckets; i++) {
+                counts[i] += stripe.get(PADDING + i);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return Cantidad total de fechas registradas, incluyendo las que están fuera de rango.
+     */
+    public long total() {
+        long total = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            final AtomicLongArray stripe = stripes.get(s);
+            for (int i = 0; stripe != null && i <= buckets; i++) {
+                total += stripe.get(PADDING + i);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Posición de la fecha o buckets si está fuera de rango.
+     */
+    private int bucket(final Date date) {
+        final long value;
+        switch (field) {
+            case DAY_OF_WEEK:
+                return date.getDayOfWeek().ordinal();
+            case MONTH:
+                return date.getMonth().ordinal();
+            case YEAR:
+                value = date.getYear() - origin;
+                break;
+            default:
+                value = date.toEpochDay() - origin;
+                break;
+        }
+        return value >= 0 && value < buckets ? (int) value : buckets;
+    }
+
+    /**
+     * @param bucket Posición.
+     * @return Suma de la posición en todos los hilos.
+     */
+    private long sum(final int bucket) {
+        long sum = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            final AtomicLongArray stripe = stripes.get(s);
+            if (stripe != null) {
+                sum += stripe.get(PADDING + bucket);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * <p>Elige el arreglo con un hash multiplicativo de Fibonacci del id del hilo y lo crea si es la primera vez que
+     * se usa. Si dos hilos lo crean a la vez, el que pierde el compareAndSet usa el del otro.</p>
+     * @return Arreglo del hilo actual.
+     */
+    private AtomicLongArray stripe() {
+        final long id                = Thread.currentThread().getId();
+        final int index              = (int) (id * GOLDEN_RATIO >>> Integer.SIZE) & (STRIPES - 1);
+        final AtomicLongArray stripe = stripes.get(index);
+        if (stripe != null) {
+            return stripe;
+        }
+        final AtomicLongArray created = new AtomicLongArray(PADDING + buckets + 1 + PADDING);
+        return stripes.compareAndSet(index, null, created) ? created : stripes.get(index);
+    }
+}
@@ -0,0 +1,310 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.LongStream;
+
+/**
+ * <p>DateIndex es un índice persistente ordenado que asocia días época con posiciones de registros. Se escribe una
+ * sola vez en orden con un Writer y se abre en solo lectura con FileChannel.map, así las consultas no cargan el
+ * archivo en el heap y abrirlo no depende de su tamaño.</p>
+ * <p>Formato del archivo (big-endian):</p>
+ * <ul>
+ *     <li>Encabezado de 16 bytes: la firma PQDI, la versión (int) y la cantidad de entradas (long).</li>
+ *     <li>Entradas de 16 bytes ordenadas por día época: el día época (long) y la posición del registro (long).
+ *     Un mismo día puede tener varias entradas.</li>
+ * </ul>
+ * <p>El archivo se mapea en segmentos de \(2^{30}\) bytes porque un MappedByteBuffer no puede superar los 2 GiB.
+ * Como el tamaño de un segmento es múltiplo del tamaño de una entrada ninguna entrada queda partida entre dos
+ * segmentos.</p>
+ *  <pre><code class="language-java">
+ *      try (DateIndex.Writer writer = DateIndex.writer(path)) {
+ *          writer.add(date, offset);
+ *      }
+ *      try (DateIndex index = DateIndex.open(path)) {
+ *          index.offsets(from, to).forEach(offset -&gt; ...);
+ *      }
+ *  </code></pre>
+ */
+public final class DateIndex implements Closeable {
+
+    private static final int MAGIC        = 0x50514449;
+    private static final int VERSION      = 1;
+    private static final int HEADER_SIZE  = 16;
+    private static final int COUNT_OFFSET = 8;
+    private static final int ENTRY_SIZE   = 16;
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    /**
+     * <p>Entradas que el Writer acumula antes de escribir.</p>
+     */
+    private static final int WRITE_BATCH = 4096;
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private DateIndex(final MappedByteBuffer[] segments, final long size) {
+        this.segments = segments;
+        this.size     = size;
+    }
+
+    /**
+     * <p>Crea o reemplaza un archivo de índice.</p>
+     * @param path Archivo.
+     * @return Writer del índice, el archivo queda completo al cerrarlo.
+     * @throws IOException Si no se puede crear el archivo o escribir el encabezado, en ese caso el archivo se
+     * cierra.
+     */
+    public static Writer writer(final Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new Writer(channel);
+        } catch (IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * <p>Abre un índice en solo lectura.</p>
+     * @param path Archivo.
+     * @return Índice.
+     * @throws IOException Si no se puede leer o el archivo no es un índice válido.
+     */
+    public static DateIndex open(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Invalid date index");
+            }
+            final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((fileSize - 1 >>> SEGMENT_BITS) + 1)];
+            for (int i = 0; i < segments.length; i++) {
+                final long position = (long) i << SEGMENT_BITS;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(SEGMENT_MASK + 1, fileSize - position));
+            }
+            final long size = segments[0].getLong(COUNT_OFFSET);
+            if (segments[0].getInt(0) != MAGIC || segments[0].getInt(Integer.BYTES) != VERSION
+                    || size < 0 || size != (fileSize - HEADER_SIZE) / ENTRY_SIZE
+                    || (fileSize - HEADER_SIZE) % ENTRY_SIZE != 0) {
+                throw new IOException("Invalid date index");
+            }
+            return new DateIndex(segments, size);
+        }
+    }
+
+    /**
+     * @return Cantidad de entradas.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param index Posición de la entrada. \(0\leq index &lt; size\)
+     * @return Día época de la entrada.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del índice.
+     */
+    public long epochDay(final long index) {
+        return readLong(entryPosition(index));
+    }
+
+    /**
+     * @param index Posición de la entrada. \(0\leq index &lt; size\)
+     * @return Posición del registro de la entrada.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del índice.
+     */
+    public long offset(final long index) {
+        return readLong(entryPosition(index) + Long.BYTES);
+    }
+
+    /**
+     * <p>Busca con búsqueda binaria la primera entrada cuyo día época es mayor o igual al indicado, son
+     * \(\log_2 size\) lecturas, unas 30 para mil millones de entradas.</p>
+     * @param epochDay Día época.
+     * @return Posición de la primera entrada con un día mayor o igual, o size si no hay ninguna.
+     */
+    public long lowerBound(final long epochDay) {
+        long low  = 0;
+        long high = size;
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+            if (readLong(HEADER_SIZE + middle * ENTRY_SIZE) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * <p>Posiciones de los registros con fechas en el intervalo \([from, to)\), en el orden del índice.</p>
+     * @param from Fecha inicial incluida.
+     * @param to Fecha final excluida.
+     * @return Posiciones de los registros.
+     */
+    public LongStream offsets(final Date from, final Date to) {
+        return offsets(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /**
+     * @param range Rango de fechas.
+     * @return Posiciones de los registros con fechas dentro del rango.
+     */
+    public LongStream offsets(final DateRange range) {
+        return offsets(range.getStart().toEpochDay(), range.getEnd().toEpochDay());
+    }
+
+    /**
+     * @param fromEpochDay Día época inicial incluido.
+     * @param toEpochDay Día época final excluido.
+     * @return Posiciones de los registros.
+     */
+    private LongStream offsets(final long fromEpochDay, final long toEpochDay) {
+        if (toEpochDay <= fromEpochDay) {
+            return LongStream.empty();
+        }
+        return LongStream.range(lowerBound(fromEpochDay), lowerBound(toEpochDay)).map(this::offset);
+    }
+
+    /**
+     * <p>Libera las referencias a los segmentos. Java 8 no permite liberar un mapeo explícitamente, la memoria se
+     * libera cuando el recolector de basura reclama los buffers.</p>
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = null;
+        }
+    }
+
+    /**
+     * @param index Posición de la entrada.
+     * @return Posición de la entrada en el archivo.
+     */
+    private long entryPosition(final long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(Long.toString(index));
+        }
+        return HEADER_SIZE + index * ENTRY_SIZE;
+    }
+
+    /**
+     * @param position Posición en el archivo, alineada a 8 bytes.
+     * @return Valor en la posición.
+     */
+    private long readLong(final long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    /**
+     * <p>Escribe un índice en orden. Las entradas se acumulan en lotes y la cantidad se escribe en el encabezado al
+     * cerrar, un archivo que no se cerró no se puede abrir.</p>
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final byte[] batch       = new byte[WRITE_BATCH * ENTRY_SIZE];
+        private final ByteBuffer entries = ByteBuffer.wrap(batch);
+        private int pending;
+        private long count;
+        private long lastEpochDay        = Long.MIN_VALUE;
+        private boolean closed;
+
+        private Writer(final FileChannel channel) throws IOException {
+            this.channel = channel;
+            write(ByteBuffer.allocate(HEADER_SIZE).putInt(0, MAGIC).putInt(Integer.BYTES, VERSION)
+                    .putLong(COUNT_OFFSET, -1), 0);
+        }
+
+        /**
+         * @param date Fecha del registro.
+         * @param offset Posición del registro.
+         * @throws IOException Si no se puede escribir.
+         * @throws IllegalArgumentException Si la fecha es anterior a la última agregada.
+         */
+        public void add(final Date date, final long offset) throws IOException {
+            add(date.toEpochDay(), offset);
+        }
+
+        /**
+         * @param epochDay Día época del registro.
+         * @param offset Posición del registro.
+         * @throws IOException Si no se puede escribir.
+         * @throws IllegalArgumentException Si el día es anterior al último agregado.
+         */
+        public void add(final long epochDay, final long offset) throws IOException {
+            if (closed) {
+                throw new IllegalStateException("Closed");
+            }
+            if (epochDay < lastEpochDay) {
+                throw new IllegalArgumentException("Unsorted index");
+            }
+            lastEpochDay = epochDay;
+            entries.putLong(pending * ENTRY_SIZE, epochDay);
+            entries.putLong(pending * ENTRY_SIZE + Long.BYTES, offset);
+            if (++pending == WRITE_BATCH) {
+                flush();
+            }
+        }
+
+        /**
+         * @return Cantidad de entradas agregadas.
+         */
+        public long size() {
+            return count + pending;
+        }
+
+        /**
+         * <p>Escribe las entradas pendientes y la cantidad en el encabezado.</p>
+         * @throws IOException Si no se puede escribir.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flush();
+                write(ByteBuffer.allocate(Long.BYTES).putLong(0, count), COUNT_OFFSET);
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+
+        /**
+         * @throws IOException Si no se puede escribir.
+         */
+        private void flush() throws IOException {
+            write(ByteBuffer.wrap(batch, 0, pending * ENTRY_SIZE), HEADER_SIZE + count * ENTRY_SIZE);
+            count  += pending;
+            pending = 0;
+        }
+
+        /**
+         * @param buffer Bytes a escribir.
+         * @param position Posición en el archivo.
+         * @throws IOException Si no se puede escribir.
+         */
+        private void write(final ByteBuffer buffer, final long position) throws IOException {
+            long current = position;
+            while (buffer.hasRemaining()) {
+                current += channel.write(buffer, current);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.time.LocalDate;
+
+/**
+ * <p>DateInterop convierte fechas entre GregorianDate, java.time.LocalDate, java.sql.Date y días época, tanto
+ * de una en una como en arreglos. Las conversiones usan solo aritmética, no pasan por toString() ni por parse.</p>
+ * <p>Los métodos de arreglos conservan los null, así se pueden usar directamente con columnas JDBC que aceptan
+ * null. Para arreglos muy grandes se pueden combinar con DateBatch.</p>
+ *  <pre><code class="language-java">
+ *      LocalDate[] local     = DateInterop.toLocalDates(dates);
+ *      GregorianDate[] dates = DateInterop.fromEpochDays(epochDays);
+ *  </code></pre>
+ */
+public final class DateInterop {
+
+    private DateInterop() {
+    }
+
+    /**
+     * <p>java.sql.Date representa la medianoche local de la fecha, igual que java.sql.Date.valueOf(LocalDate).</p>
+     * @param date Fecha.
+     * @return Fecha JDBC equivalente.
+     * @throws java.time.DateTimeException Si el año es mayor a Year.MAX_VALUE.
+     */
+    public static java.sql.Date toSqlDate(final Date date) {
+        return java.sql.Date.valueOf(toLocalDate(date));
+    }
+
+    /**
+     * @param date Fecha JDBC.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     */
+    public static GregorianDate fromSqlDate(final java.sql.Date date) {
+        return GregorianDate.from(date.toLocalDate());
+    }
+
+    /**
+     * @param dates Fechas, pueden tener null.
+     * @return Fechas de java.time en el mismo orden.
+     * @throws java.time.DateTimeException Si algún año es mayor a Year.MAX_VALUE.
+     */
+    public static LocalDate[] toLocalDates(final Date[] dates) {
+        final LocalDate[] result = new LocalDate[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i] == null ? null : toLocalDate(dates[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param dates Fechas de java.time, pueden tener null.
+     * @return Fechas gregorianas en el mismo orden.
+     * @throws IllegalArgumentException Si alguna fecha es anterior a 1583.
+     */
+    public static GregorianDate[] fromLocalDates(final LocalDate[] dates) {
+        final GregorianDate[] result = new GregorianDate[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i] == null ? null : uncached(dates[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param dates Fechas, pueden tener null.
+     * @return Fechas JDBC en el mismo orden.
+     * @throws java.time.DateTimeException Si algún año es mayor a Year.MAX_VALUE.
+     */
+    public static java.sql.Date[] toSqlDates(final Date[] dates) {
+        final java.sql.Date[] result = new java.sql.Date[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i] == null ? null : toSqlDate(dates[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param dates Fechas JDBC, pueden tener null.
+     * @return Fechas gregorianas en el mismo orden.
+     * @throws IllegalArgumentException Si alguna fecha es anterior a 1583.
+     */
+    public static GregorianDate[] fromSqlDates(final java.sql.Date[] dates) {
+        final GregorianDate[] result = new GregorianDate[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i] == null ? null : uncached(dates[i].toLocalDate());
+        }
+        return result;
+    }
+
+    /**
+     * @param dates Fechas, sin null.
+     * @return Días época en el mismo orden.
+     * @throws ArithmeticException Si algún día época no se puede representar con un long.
+     */
+    public static long[] toEpochDays(final Date[] dates) {
+        final long[] result = new long[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i].toEpochDay();
+        }
+        return result;
+    }
+
+    /**
+     * @param epochDays Días época.
+     * @return Fechas gregorianas en el mismo orden.
+     * @throws IllegalArgumentException Si alguna fecha es anterior a 1583.
+     */
+    public static GregorianDate[] fromEpochDays(final long[] epochDays) {
+        final GregorianDate[] result = new GregorianDate[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = GregorianDate.ofEpochDay(epochDays[i]);
+        }
+        return result;
+    }
+
+    /**
+     * <p>Convierte días época a java.time sin crear instancias de GregorianDate.</p>
+     * @param epochDays Días época.
+     * @return Fechas de java.time en el mismo orden.
+     * @throws java.time.DateTimeException Si algún día está fuera del rango de LocalDate.
+     */
+    public static LocalDate[] toLocalDates(final long[] epochDays) {
+        final LocalDate[] result = new LocalDate[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+        return result;
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Fecha de java.time.
+     */
+    private static LocalDate toLocalDate(final Date date) {
+        if (date instanceof GregorianDate) {
+            return ((GregorianDate) date).toLocalDate();
+        }
+        return GregorianDate.of(date.getYear(), date.getMonth(), date.getDay()).toLocalDate();
+    }
+
+    /**
+     * <p>Las conversiones masivas crean las fechas sin pasar por DateCache.shared(), así un arreglo grande de fechas
+     * que no se repiten no desaloja las fechas frecuentes de la caché.</p>
+     * @param date Fecha de java.time.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     */
+    private static GregorianDate uncached(final LocalDate date) {
+        return new GregorianDate(date.getYear(), Month.fromNumber(date.getMonthValue()), date.getDayOfMonth());
+    }
+}
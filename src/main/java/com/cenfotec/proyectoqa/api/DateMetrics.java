@@ -0,0 +1,320 @@
+package com.cenfotec.proyectoqa.api;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>DateMetrics es la instrumentación opcional de GregorianDate. Cuenta las llamadas y guarda histogramas de
+ * latencia de addDays, getDayOfWeek y la construcción de fechas, además de los fallos de validación y la cantidad
+ * de ciclos de 400 años que recorre cada addDays.</p>
+ * <p>Se activa con la propiedad del sistema proyectoqa.metrics=true. Como ENABLED es una constante, cuando está
+ * desactivada el JIT elimina las llamadas de instrumentación y el costo es prácticamente nulo.</p>
+ * <p>Cuando está activada las métricas se publican en el MXBean com.cenfotec.proyectoqa:type=DateMetrics y,
+ * si el proyecto se compiló con el perfil jfr (mvn -Pjfr) y el JDK incluye jdk.jfr, como eventos
+ * com.cenfotec.proyectoqa.DateOperation de Flight Recorder.</p>
+ * <p>Los histogramas tienen 64 posiciones, la posición i cuenta los valores \(v\) tales que
+ * \(2^{i-1}\leq v &lt; 2^i\) (la posición 0 cuenta los ceros).</p>
+ */
+public final class DateMetrics {
+
+    /**
+     * <p>Si la instrumentación está activa.</p>
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("proyectoqa.metrics");
+
+    /**
+     * <p>Nombre del MXBean.</p>
+     */
+    public static final String OBJECT_NAME = "com.cenfotec.proyectoqa:type=DateMetrics";
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private static final String JFR_EVENT_CLASS = "jdk.jfr.Event";
+    private static final String JFR_SINK_CLASS  = "com.cenfotec.proyectoqa.api.JfrDateEvents";
+
+    /**
+     * <p>Operaciones instrumentadas.</p>
+     */
+    public enum Operation {
+        ADD_DAYS,
+        DAY_OF_WEEK,
+        CONSTRUCTION
+    }
+
+    /**
+     * <p>Destino de los eventos, se implementa con Flight Recorder en JfrDateEvents.</p>
+     */
+    interface EventSink {
+        /**
+         * @param operation Operación.
+         * @param nanos Latencia en nanosegundos.
+         * @param cycles Ciclos de 400 años recorridos o 0.
+         */
+        void operation(Operation operation, long nanos, long cycles);
+
+        /**
+         * <p>Publica un fallo de validación.</p>
+         */
+        void validationFailure();
+    }
+
+    private static final Histogram[] LATENCIES          = new Histogram[Operation.values().length];
+    private static final Histogram ADD_DAYS_CYCLES      = new Histogram();
+    private static final LongAdder VALIDATION_FAILURES  = new LongAdder();
+    private static final EventSink EVENTS               = ENABLED ? createEventSink() : null;
+
+    static {
+        for (int i = 0; i < LATENCIES.length; i++) {
+            LATENCIES[i] = new Histogram();
+        }
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+    private DateMetrics() {
+    }
+
+    /**
+     * <p>Registra el MXBean en el servidor de plataforma. Se llama automáticamente cuando la instrumentación está
+     * activa, si ya está registrado no hace nada.</p>
+     * @throws IllegalStateException Si no se puede registrar.
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            return;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param operation Operación.
+     * @return Cantidad de llamadas registradas.
+     */
+    public static long count(final Operation operation) {
+        return LATENCIES[operation.ordinal()].count.sum();
+    }
+
+    /**
+     * @param operation Operación.
+     * @return Suma de las latencias en nanosegundos.
+     */
+    public static long totalNanos(final Operation operation) {
+        return LATENCIES[operation.ordinal()].total.sum();
+    }
+
+    /**
+     * @param operation Operación.
+     * @return Histograma logarítmico de las latencias en nanosegundos.
+     */
+    public static long[] latencyHistogram(final Operation operation) {
+        return LATENCIES[operation.ordinal()].snapshot();
+    }
+
+    /**
+     * @return Histograma logarítmico de los ciclos de 400 años que recorrió cada addDays.
+     */
+    public static long[] addDaysCycleHistogram() {
+        return ADD_DAYS_CYCLES.snapshot();
+    }
+
+    /**
+     * @return Cantidad de fechas inválidas rechazadas por el constructor.
+     */
+    public static long validationFailures() {
+        return VALIDATION_FAILURES.sum();
+    }
+
+    /**
+     * <p>Reinicia todas las métricas.</p>
+     */
+    public static void reset() {
+        for (Histogram histogram : LATENCIES) {
+            histogram.reset();
+        }
+        ADD_DAYS_CYCLES.reset();
+        VALIDATION_FAILURES.reset();
+    }
+
+    /**
+     * @return Tiempo inicial de la medición o 0 si la instrumentación está desactivada.
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param operation Operación.
+     * @param start Valor retornado por start().
+     */
+    static void record(final Operation operation, final long start) {
+        if (ENABLED) {
+            final long nanos = System.nanoTime() - start;
+            LATENCIES[operation.ordinal()].record(nanos);
+            if (EVENTS != null) {
+                EVENTS.operation(operation, nanos, 0);
+            }
+        }
+    }
+
+    /**
+     * @param start Valor retornado por start().
+     * @param cycleDays Días desde el primero de enero del ciclo de 400 años inicial hasta el resultado.
+     */
+    static void recordAddDays(final long start, final long cycleDays) {
+        if (ENABLED) {
+            final long nanos  = System.nanoTime() - start;
+            final long cycles = Math.abs(Math.floorDiv(cycleDays, (long) GregorianDate.DAYS_IN_CYCLE));
+            LATENCIES[Operation.ADD_DAYS.ordinal()].record(nanos);
+            ADD_DAYS_CYCLES.record(cycles);
+            if (EVENTS != null) {
+                EVENTS.operation(Operation.ADD_DAYS, nanos, cycles);
+            }
+        }
+    }
+
+    /**
+     * <p>Registra una fecha inválida rechazada.</p>
+     */
+    static void recordValidationFailure() {
+        if (ENABLED) {
+            VALIDATION_FAILURES.increment();
+            if (EVENTS != null) {
+                EVENTS.validationFailure();
+            }
+        }
+    }
+
+    /**
+     * <p>Carga JfrDateEvents por reflexión, así DateMetrics no depende de jdk.jfr en los JDK que no lo incluyen.</p>
+     * @return Destino de eventos o null si Flight Recorder no está disponible.
+     */
+    private static EventSink createEventSink() {
+        try {
+            Class.forName(JFR_EVENT_CLASS);
+            return (EventSink) Class.forName(JFR_SINK_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>Histograma logarítmico concurrente.</p>
+     */
+    private static final class Histogram {
+        private final LongAdder count    = new LongAdder();
+        private final LongAdder total    = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        private Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * @param value Valor no negativo.
+         */
+        private void record(final long value) {
+            count.increment();
+            total.add(value);
+            buckets[Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(value))].increment();
+        }
+
+        /**
+         * @return Copia de las posiciones.
+         */
+        private long[] snapshot() {
+            final long[] values = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                values[i] = buckets[i].sum();
+            }
+            return values;
+        }
+
+        private void reset() {
+            count.reset();
+            total.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+        }
+    }
+
+    /**
+     * <p>Implementación del MXBean sobre las métricas estáticas.</p>
+     */
+    private static final class MXBean implements DateMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public long getAddDaysCount() {
+            return count(Operation.ADD_DAYS);
+        }
+
+        @Override
+        public long getAddDaysTotalNanos() {
+            return totalNanos(Operation.ADD_DAYS);
+        }
+
+        @Override
+        public long[] getAddDaysLatencyHistogram() {
+            return latencyHistogram(Operation.ADD_DAYS);
+        }
+
+        @Override
+        public long[] getAddDaysCycleHistogram() {
+            return addDaysCycleHistogram();
+        }
+
+        @Override
+        public long getDayOfWeekCount() {
+            return count(Operation.DAY_OF_WEEK);
+        }
+
+        @Override
+        public long getDayOfWeekTotalNanos() {
+            return totalNanos(Operation.DAY_OF_WEEK);
+        }
+
+        @Override
+        public long[] getDayOfWeekLatencyHistogram() {
+            return latencyHistogram(Operation.DAY_OF_WEEK);
+        }
+
+        @Override
+        public long getConstructionCount() {
+            return count(Operation.CONSTRUCTION);
+        }
+
+        @Override
+        public long getConstructionTotalNanos() {
+            return totalNanos(Operation.CONSTRUCTION);
+        }
+
+        @Override
+        public long[] getConstructionLatencyHistogram() {
+            return latencyHistogram(Operation.CONSTRUCTION);
+        }
+
+        @Override
+        public long getValidationFailures() {
+            return validationFailures();
+        }
+
+        @Override
+        public void reset() {
+            DateMetrics.reset();
+        }
+    }
+}
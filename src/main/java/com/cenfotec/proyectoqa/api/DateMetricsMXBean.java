@@ -0,0 +1,73 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>Interface de administración JMX de DateMetrics, registrada como com.cenfotec.proyectoqa:type=DateMetrics.
+ * Los histogramas son logarítmicos en base 2, ver DateMetrics.</p>
+ */
+public interface DateMetricsMXBean {
+
+    /**
+     * @return Si la instrumentación está activa.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return Cantidad de llamadas a addDays.
+     */
+    long getAddDaysCount();
+
+    /**
+     * @return Suma de las latencias de addDays en nanosegundos.
+     */
+    long getAddDaysTotalNanos();
+
+    /**
+     * @return Histograma de las latencias de addDays en nanosegundos.
+     */
+    long[] getAddDaysLatencyHistogram();
+
+    /**
+     * @return Histograma de los ciclos de 400 años recorridos por addDays.
+     */
+    long[] getAddDaysCycleHistogram();
+
+    /**
+     * @return Cantidad de llamadas a getDayOfWeek.
+     */
+    long getDayOfWeekCount();
+
+    /**
+     * @return Suma de las latencias de getDayOfWeek en nanosegundos.
+     */
+    long getDayOfWeekTotalNanos();
+
+    /**
+     * @return Histograma de las latencias de getDayOfWeek en nanosegundos.
+     */
+    long[] getDayOfWeekLatencyHistogram();
+
+    /**
+     * @return Cantidad de fechas construidas.
+     */
+    long getConstructionCount();
+
+    /**
+     * @return Suma de las latencias de construcción en nanosegundos.
+     */
+    long getConstructionTotalNanos();
+
+    /**
+     * @return Histograma de las latencias de construcción en nanosegundos.
+     */
+    long[] getConstructionLatencyHistogram();
+
+    /**
+     * @return Cantidad de fechas inválidas rechazadas.
+     */
+    long getValidationFailures();
+
+    /**
+     * <p>Reinicia todas las métricas.</p>
+     */
+    void reset();
+}
@@ -0,0 +1,286 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>DateParser interpreta fechas con los formatos ISO-8601 {@code yyyy-MM-dd} y {@code (YYYY, MM, DD)},
+ * este último es el formato de GregorianDate.toString().</p>
+ * <p>Los métodos leen directamente de un CharSequence, un byte[] o un ByteBuffer en una posición dada y retornan
+ * la fecha empacada con PackedDates. No crean objetos ni lanzan excepciones cuando el texto es inválido,
+ * en ese caso retornan PackedDates.INVALID.</p>
+ * <p>El año debe tener entre 4 y 17 dígitos, el mes y el día exactamente 2. En el formato de tupla se permiten
+ * espacios y tabulaciones alrededor de los números.</p>
+ * <p>Como el resultado es una fecha empacada, los años mayores a PackedDates.MAX_YEAR no se pueden representar y
+ * retornan PackedDates.INVALID. GregorianDate.parse acepta años de hasta 19 dígitos, cualquier año de un long.</p>
+ */
+public final class DateParser {
+
+    private static final int MIN_YEAR_DIGITS = 4;
+    private static final int MAX_YEAR_DIGITS = 17;
+    private static final int MAX_LONG_DIGITS = 19;
+    private static final int FIELD_DIGITS    = 2;
+    private static final int RADIX           = 10;
+
+    private static final char TUPLE_START     = '(';
+    private static final char TUPLE_END       = ')';
+    private static final char TUPLE_SEPARATOR = ',';
+    private static final char ISO_SEPARATOR   = '-';
+
+    private DateParser() {
+    }
+
+    /**
+     * <p>Los años mayores a PackedDates.MAX_YEAR no se pueden empacar y también retornan PackedDates.INVALID.</p>
+     * @param text Texto con la fecha.
+     * @return Fecha empacada o PackedDates.INVALID si el texto es inválido.
+     */
+    public static long parse(final CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * <p>Los años mayores a PackedDates.MAX_YEAR no se pueden empacar y también retornan PackedDates.INVALID.</p>
+     * @param text Texto con la fecha.
+     * @param start Posición inicial (inclusiva).
+     * @param end Posición final (exclusiva).
+     * @return Fecha empacada o PackedDates.INVALID si el texto es inválido.
+     * @throws IndexOutOfBoundsException Si el rango está fuera del texto.
+     */
+    public static long parse(final CharSequence text, final int start, final int end) {
+        checkRange(start, end, text.length());
+        return parseRange(text, start, end);
+    }
+
+    /**
+     * <p>Los años mayores a PackedDates.MAX_YEAR no se pueden empacar y también retornan PackedDates.INVALID.</p>
+     * @param bytes Bytes ASCII con la fecha.
+     * @param offset Posición inicial.
+     * @param length Cantidad de bytes.
+     * @return Fecha empacada o PackedDates.INVALID si los bytes son inválidos.
+     * @throws IndexOutOfBoundsException Si el rango está fuera del arreglo.
+     */
+    public static long parse(final byte[] bytes, final int offset, final int length) {
+        checkRange(offset, offset + length, bytes.length);
+        return parseRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * <p>Lee con posiciones absolutas, por lo que no modifica la posición del buffer. Los años mayores a
+     * PackedDates.MAX_YEAR no se pueden empacar y también retornan PackedDates.INVALID.</p>
+     * @param buffer Buffer con bytes ASCII.
+     * @param offset Posición absoluta inicial.
+     * @param length Cantidad de bytes.
+     * @return Fecha empacada o PackedDates.INVALID si los bytes son inválidos.
+     * @throws IndexOutOfBoundsException Si el rango está fuera del buffer.
+     */
+    public static long parse(final ByteBuffer buffer, final int offset, final int length) {
+        checkRange(offset, offset + length, buffer.limit());
+        return parseRange(buffer, offset, offset + length);
+    }
+
+    /**
+     * @param start Posición inicial.
+     * @param end Posición final.
+     * @param length Tamaño de la fuente.
+     */
+    private static void checkRange(final int start, final int end, final int length) {
+        if (start < 0 || end < start || end > length) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * @param source Fuente.
+     * @param start Posición inicial (inclusiva).
+     * @param end Posición final (exclusiva).
+     * @return Fecha empacada o PackedDates.INVALID.
+     */
+    private static long parseRange(final Object source, final int start, final int end) {
+        final long packed = parseDetailed(source, start, end);
+        return packed < 0 ? PackedDates.INVALID : packed;
+    }
+
+    /**
+     * <p>Interpreta una fecha con cualquier año de un long, el año se acumula con aritmética exacta. Lo usa
+     * GregorianDate.parse para que toString() siempre se pueda volver a interpretar.</p>
+     * @param text Texto con la fecha.
+     * @param year Arreglo donde se guarda el año.
+     * @return Fecha empacada con año 0, solo lleva el mes y el día, o PackedDates.INVALID si el texto es
+     * inválido.
+     */
+    static long parseLongYear(final CharSequence text, final long[] year) {
+        try {
+            final long packed = parseDetailed(text, 0, text.length(), year);
+            return packed < 0 ? PackedDates.INVALID : packed;
+        } catch (ArithmeticException e) {
+            return PackedDates.INVALID;
+        }
+    }
+
+    /**
+     * @param source CharSequence, byte[] o ByteBuffer.
+     * @param start Posición inicial (inclusiva).
+     * @param end Posición final (exclusiva).
+     * @return Fecha empacada o, si es inválida, \(-1 - reason\) donde reason es el ordinal de
+     * DateValidator.Reason. Un error de sintaxis retorna PackedDates.INVALID.
+     */
+    static long parseDetailed(final Object source, final int start, final int end) {
+        return parseDetailed(source, start, end, null);
+    }
+
+    /**
+     * <p>Interpreta la fecha entre start y end sin validar el rango. Se reconoce la gramática:</p>
+     *  <pre><code class="language-java">
+     *      iso   = year '-' MM '-' DD
+     *      tuple = '(' year ',' MM ',' DD ')'
+     *  </code></pre>
+     * @param source CharSequence, byte[] o ByteBuffer.
+     * @param start Posición inicial (inclusiva).
+     * @param end Posición final (exclusiva).
+     * @param longYear null para limitar el año a PackedDates.MAX_YEAR, o un arreglo donde se guarda el año de
+     * hasta 19 dígitos; en ese caso el resultado solo lleva el mes y el día.
+     * @return Fecha empacada o, si es inválida, \(-1 - reason\) donde reason es el ordinal de
+     * DateValidator.Reason. Un error de sintaxis retorna PackedDates.INVALID.
+     * @throws ArithmeticException Si longYear no es null y el año no se puede representar con un long.
+     */
+    private static long parseDetailed(final Object source, final int start, final int end, final long[] longYear) {
+        final boolean tuple = start < end && at(source, start) == TUPLE_START;
+        int pos             = tuple ? skipSpaces(source, start + 1, end) : start;
+
+        final int yearStart = pos;
+        final int maxDigits = longYear == null ? MAX_YEAR_DIGITS : MAX_LONG_DIGITS;
+        long year           = 0;
+        while (pos < end && pos - yearStart < maxDigits && isDigit(at(source, pos))) {
+            final int digit = at(source, pos) - '0';
+            year = longYear == null
+                    ? year * RADIX + digit
+                    : Math.addExact(Math.multiplyExact(year, RADIX), digit);
+            pos++;
+        }
+        if (pos - yearStart < MIN_YEAR_DIGITS) {
+            return PackedDates.INVALID;
+        }
+
+        pos = separator(source, pos, end, tuple);
+        final int month = twoDigits(source, pos, end);
+        if (month < 0) {
+            return PackedDates.INVALID;
+        }
+
+        pos = separator(source, pos + FIELD_DIGITS, end, tuple);
+        final int day = twoDigits(source, pos, end);
+        if (day < 0) {
+            return PackedDates.INVALID;
+        }
+
+        pos += FIELD_DIGITS;
+        if (tuple) {
+            pos = skipSpaces(source, pos, end);
+            if (pos >= end || at(source, pos) != TUPLE_END) {
+                return PackedDates.INVALID;
+            }
+            pos++;
+        }
+        if (pos != end) {
+            return PackedDates.INVALID;
+        }
+        if (longYear == null && year > PackedDates.MAX_YEAR) {
+            return invalid(DateValidator.Reason.YEAR);
+        }
+        final DateValidator.Reason reason = DateValidator.check(year, month, day);
+        if (reason != null) {
+            return invalid(reason);
+        }
+        if (longYear == null) {
+            return PackedDates.pack(year, month, day);
+        }
+        longYear[0] = year;
+        return PackedDates.pack(0, month, day);
+    }
+
+    /**
+     * @param reason Motivo por el que la fecha es inválida.
+     * @return Código negativo del motivo, SYNTAX corresponde a PackedDates.INVALID.
+     */
+    private static long invalid(final DateValidator.Reason reason) {
+        return PackedDates.INVALID - reason.ordinal();
+    }
+
+    /**
+     * <p>Consume el separador entre dos campos.</p>
+     * @param source Fuente.
+     * @param pos Posición actual.
+     * @param end Posición final.
+     * @param tuple Si el formato es de tupla.
+     * @return Posición después del separador o -1 si no hay separador.
+     */
+    private static int separator(final Object source, final int pos, final int end, final boolean tuple) {
+        if (pos < 0) {
+            return -1;
+        }
+        if (!tuple) {
+            return pos < end && at(source, pos) == ISO_SEPARATOR ? pos + 1 : -1;
+        }
+        final int comma = skipSpaces(source, pos, end);
+        if (comma >= end || at(source, comma) != TUPLE_SEPARATOR) {
+            return -1;
+        }
+        return skipSpaces(source, comma + 1, end);
+    }
+
+    /**
+     * @param source Fuente.
+     * @param pos Posición del primer dígito.
+     * @param end Posición final.
+     * @return El número de 2 dígitos o -1 si no hay 2 dígitos.
+     */
+    private static int twoDigits(final Object source, final int pos, final int end) {
+        if (pos < 0 || pos + FIELD_DIGITS > end) {
+            return -1;
+        }
+        final int tens = at(source, pos);
+        final int ones = at(source, pos + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * RADIX + (ones - '0');
+    }
+
+    /**
+     * @param source Fuente.
+     * @param pos Posición actual.
+     * @param end Posición final.
+     * @return La primera posición que no es un espacio o una tabulación.
+     */
+    private static int skipSpaces(final Object source, final int pos, final int end) {
+        int current = pos;
+        while (current < end && (at(source, current) == ' ' || at(source, current) == '\t')) {
+            current++;
+        }
+        return current;
+    }
+
+    /**
+     * @param character Carácter.
+     * @return Si es un dígito ASCII.
+     */
+    private static boolean isDigit(final int character) {
+        return '0' <= character && character <= '9';
+    }
+
+    /**
+     * <p>Lee un carácter de la fuente sin crear objetos intermedios.</p>
+     * @param source CharSequence, byte[] o ByteBuffer.
+     * @param index Posición absoluta.
+     * @return Carácter en la posición.
+     */
+    private static int at(final Object source, final int index) {
+        if (source instanceof byte[]) {
+            return ((byte[]) source)[index];
+        }
+        if (source instanceof ByteBuffer) {
+            return ((ByteBuffer) source).get(index);
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+}
@@ -0,0 +1,257 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>DateRange es un rango inmutable de fechas consecutivas, la fecha inicial es inclusiva y la final exclusiva.</p>
+ * <p>El rango se guarda como dos días época, por lo que su tamaño y cualquier fecha dentro de él se calculan
+ * en tiempo constante. El Spliterator se divide a la mitad de los días época en tiempo constante y cada fecha
+ * se crea directamente con GregorianDate.ofEpochDay, por lo que los recorridos en paralelo no dependen de
+ * encadenar nextDay.</p>
+ *  <pre><code class="language-java">
+ *      DateRange.of(Date.of(2024, 1, 1), Date.of(2025, 1, 1))
+ *              .parallelStream()
+ *              .filter(date -&gt; date.getDayOfWeek() == DayOfWeek.MONDAY)
+ *              .count();
+ *  </code></pre>
+ */
+public final class DateRange implements Iterable<GregorianDate> {
+
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    /**
+     * <p>Extremos ya convertidos para que contains no tenga que convertir los días época en cada llamada.</p>
+     */
+    private final GregorianDate start;
+    private final GregorianDate end;
+
+    /**
+     * @param startEpochDay Día época inicial (inclusivo).
+     * @param endEpochDay Día época final (exclusivo).
+     */
+    private DateRange(final long startEpochDay, final long endEpochDay) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay   = endEpochDay;
+        this.start         = GregorianDate.ofEpochDay(startEpochDay);
+        this.end           = GregorianDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @return Rango de fechas.
+     * @throws IllegalArgumentException Si la fecha final es anterior a la inicial.
+     * @throws ArithmeticException Si el día época de alguna fecha no cabe en un long.
+     */
+    public static DateRange of(final Date start, final Date end) {
+        return ofEpochDays(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * @param startEpochDay Día época inicial (inclusivo).
+     * @param endEpochDay Día época final (exclusivo).
+     * @return Rango de fechas.
+     * @throws IllegalArgumentException Si el día final es anterior al inicial o si el día inicial es anterior
+     * a 1583.
+     * @throws ArithmeticException Si el tamaño del rango no cabe en un long.
+     */
+    public static DateRange ofEpochDays(final long startEpochDay, final long endEpochDay) {
+        if (endEpochDay < startEpochDay || startEpochDay < GregorianDate.MIN_EPOCH_DAY) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        if (endEpochDay - startEpochDay < 0) {
+            throw new ArithmeticException("Range overflow");
+        }
+        return new DateRange(startEpochDay, endEpochDay);
+    }
+
+    /**
+     * @return Fecha inicial (inclusiva).
+     */
+    public GregorianDate getStart() {
+        return start;
+    }
+
+    /**
+     * @return Fecha final (exclusiva).
+     */
+    public GregorianDate getEnd() {
+        return end;
+    }
+
+    /**
+     * @return Cantidad de fechas del rango.
+     */
+    public long size() {
+        return endEpochDay - startEpochDay;
+    }
+
+    /**
+     * @return Si el rango no tiene fechas.
+     */
+    public boolean isEmpty() {
+        return startEpochDay == endEpochDay;
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Si la fecha está dentro del rango.
+     */
+    public boolean contains(final Date date) {
+        return date.compareTo(start) >= 0 && date.compareTo(end) < 0;
+    }
+
+    /**
+     * @param index Posición dentro del rango.
+     * @return La fecha en la posición.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del rango.
+     */
+    public GregorianDate get(final long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return GregorianDate.ofEpochDay(startEpochDay + index);
+    }
+
+    /**
+     * @return Stream secuencial con las fechas del rango en orden.
+     */
+    public Stream<GregorianDate> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return Stream paralelo con las fechas del rango.
+     */
+    public Stream<GregorianDate> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public Iterator<GregorianDate> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    @Override
+    public Spliterator<GregorianDate> spliterator() {
+        return new EpochDaySpliterator(startEpochDay, endEpochDay);
+    }
+
+    /**
+     * <p>Método retorna una representación con el formato [(YYYY, MM, DD), (YYYY, MM, DD)).</p>
+     * @return [inicio, fin).
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        start.formatTo(builder).append(", ");
+        return end.formatTo(builder).append(')').toString();
+    }
+
+    /**
+     * <p>Método equals.</p>
+     * @param other El objeto a comparar.
+     * @return Si son iguales.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DateRange)) {
+            return false;
+        }
+        final DateRange range = (DateRange) other;
+        return startEpochDay == range.startEpochDay
+                && endEpochDay == range.endEpochDay;
+    }
+
+    /**
+     * <p>Método hashCode.</p>
+     * @return Código hash.
+     */
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        return prime * Long.hashCode(startEpochDay) + Long.hashCode(endEpochDay);
+    }
+
+    /**
+     * <p>Spliterator sobre un intervalo de días época [from, to).</p>
+     */
+    private static final class EpochDaySpliterator implements Spliterator<GregorianDate> {
+
+        private static final int CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | SORTED
+                | DISTINCT | IMMUTABLE | NONNULL;
+
+        private long from;
+        private final long to;
+
+        /**
+         * @param from Día época inicial (inclusivo).
+         * @param to Día época final (exclusivo).
+         */
+        private EpochDaySpliterator(final long from, final long to) {
+            this.from = from;
+            this.to   = to;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super GregorianDate> action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(GregorianDate.ofEpochDay(from++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super GregorianDate> action) {
+            final long end = to;
+            for (long epochDay = from; epochDay < end; epochDay++) {
+                action.accept(GregorianDate.ofEpochDay(epochDay));
+            }
+            from = end;
+        }
+
+        /**
+         * <p>Entrega la primera mitad del intervalo y se queda con la segunda.</p>
+         * @return Spliterator con la primera mitad o null si queda menos de 2 fechas.
+         */
+        @Override
+        public Spliterator<GregorianDate> trySplit() {
+            final long middle = from + (to - from) / 2;
+            if (middle == from) {
+                return null;
+            }
+            final Spliterator<GregorianDate> prefix = new EpochDaySpliterator(from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+
+        /**
+         * @return null porque las fechas están en su orden natural.
+         */
+        @Override
+        public Comparator<? super GregorianDate> getComparator() {
+            return null;
+        }
+    }
+}
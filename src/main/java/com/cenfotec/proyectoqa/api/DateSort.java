@@ -0,0 +1,165 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.Arrays;
+
+/**
+ * <p>DateSort ordena arreglos grandes de fechas con un radix sort LSD (del dígito menos significativo al más
+ * significativo) de 8 bits por pasada.</p>
+ * <p>Los histogramas de todos los dígitos se calculan en un solo recorrido y se omiten las pasadas en las que
+ * todas las llaves tienen el mismo dígito. Como las fechas de un lote suelen estar en pocos años, la mayoría de las
+ * pasadas sobre los bits altos del año se omiten. El costo es \(O(n)\) con memoria adicional \(O(n)\).</p>
+ * <p>El ordenamiento es estable. Los arreglos pequeños se ordenan con Arrays.sort.</p>
+ */
+public final class DateSort {
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX      = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * <p>Tamaño a partir del cual el radix sort es más rápido que Arrays.sort.</p>
+     */
+    private static final int RADIX_THRESHOLD = 256;
+
+    private DateSort() {
+    }
+
+    /**
+     * <p>Ordena fechas empacadas con PackedDates. Como el orden de los long empacados es el orden cronológico,
+     * se ordenan como números con signo.</p>
+     * @param packed Fechas empacadas.
+     */
+    public static void sort(final long[] packed) {
+        if (packed.length < RADIX_THRESHOLD) {
+            Arrays.sort(packed);
+            return;
+        }
+        radixSort(packed, null);
+    }
+
+    /**
+     * <p>Ordena días época, por ejemplo los de DateColumn.</p>
+     * @param epochDays Días época.
+     */
+    public static void sort(final int[] epochDays) {
+        if (epochDays.length < RADIX_THRESHOLD) {
+            Arrays.sort(epochDays);
+            return;
+        }
+        final int size       = epochDays.length;
+        final int digits     = Integer.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[digits][RADIX];
+        for (int epochDay : epochDays) {
+            final int key = epochDay ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < digits; digit++) {
+                counts[digit][key >>> (digit * DIGIT_BITS) & DIGIT_MASK]++;
+            }
+        }
+
+        int[] source = epochDays;
+        int[] target = new int[size];
+        for (int digit = 0; digit < digits; digit++) {
+            final int shift     = digit * DIGIT_BITS;
+            final int[] offsets = counts[digit];
+            if (offsets[(source[0] ^ Integer.MIN_VALUE) >>> shift & DIGIT_MASK] == size) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (int value : source) {
+                target[offsets[(value ^ Integer.MIN_VALUE) >>> shift & DIGIT_MASK]++] = value;
+            }
+            final int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != epochDays) {
+            System.arraycopy(source, 0, epochDays, 0, size);
+        }
+    }
+
+    /**
+     * <p>Ordena fechas cronológicamente. Se ordenan por su llave empacada y solo se usa compareTo si algún
+     * año es mayor a PackedDates.MAX_YEAR.</p>
+     * @param dates Fechas.
+     * @param <T> Tipo de fecha.
+     * @throws NullPointerException Si alguna fecha es null.
+     */
+    public static <T extends Date> void sort(final T[] dates) {
+        if (dates.length < RADIX_THRESHOLD) {
+            Arrays.sort(dates);
+            return;
+        }
+        final long[] keys = new long[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            final Date date = dates[i];
+            if (date.getYear() > PackedDates.MAX_YEAR) {
+                Arrays.sort(dates);
+                return;
+            }
+            keys[i] = PackedDates.pack(date.getYear(), date.getMonth().toNumber(), date.getDay());
+        }
+        radixSort(keys, dates);
+    }
+
+    /**
+     * <p>Ordena las llaves y, si no es null, mueve los valores junto con sus llaves.</p>
+     * @param keys Llaves.
+     * @param values Valores asociados a las llaves o null.
+     */
+    private static void radixSort(final long[] keys, final Object[] values) {
+        final int size       = keys.length;
+        final int digits     = Long.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[digits][RADIX];
+        for (long value : keys) {
+            final long key = value ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < digits; digit++) {
+                counts[digit][(int) (key >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+
+        long[] source         = keys;
+        long[] target         = new long[size];
+        Object[] sourceValues = values;
+        Object[] targetValues = values == null ? null : new Object[size];
+        for (int digit = 0; digit < digits; digit++) {
+            final int shift     = digit * DIGIT_BITS;
+            final int[] offsets = counts[digit];
+            if (offsets[(int) ((source[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == size) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (int i = 0; i < size; i++) {
+                final int position = offsets[(int) ((source[i] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                target[position] = source[i];
+                if (values != null) {
+                    targetValues[position] = sourceValues[i];
+                }
+            }
+            final long[] swap = source;
+            source = target;
+            target = swap;
+            final Object[] swapValues = sourceValues;
+            sourceValues = targetValues;
+            targetValues = swapValues;
+        }
+        if (source != keys) {
+            System.arraycopy(source, 0, keys, 0, size);
+            if (values != null) {
+                System.arraycopy(sourceValues, 0, values, 0, size);
+            }
+        }
+    }
+
+    /**
+     * <p>Convierte un histograma en la posición inicial de cada dígito.</p>
+     * @param counts Histograma de un dígito.
+     */
+    private static void toOffsets(final int[] counts) {
+        int offset = 0;
+        for (int i = 0; i < RADIX; i++) {
+            final int count = counts[i];
+            counts[i] = offset;
+            offset += count;
+        }
+    }
+}
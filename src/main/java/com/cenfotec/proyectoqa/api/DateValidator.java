@@ -0,0 +1,270 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * <p>DateValidator valida columnas de año, mes y día o líneas de texto sin crear fechas ni lanzar excepciones.
+ * Las filas se numeran en el orden en que se reciben, las filas inválidas se marcan en un mapa de bits y se
+ * cuentan por motivo.</p>
+ * <p>Se puede alimentar por partes, por ejemplo bloque por bloque de un archivo. No es seguro para varios hilos,
+ * cada hilo debe usar su propio validador.</p>
+ *  <pre><code class="language-java">
+ *      DateValidator validator = new DateValidator();
+ *      validator.accept(years, months, days, 0, years.length);
+ *      long badDays = validator.count(DateValidator.Reason.DAY);
+ *      BitSet rows  = validator.toBitSet();
+ *  </code></pre>
+ */
+public final class DateValidator {
+
+    /**
+     * <p>Motivo por el que una fila es inválida.</p>
+     */
+    public enum Reason {
+        /**
+         * <p>El texto no tiene el formato yyyy-MM-dd ni (YYYY, MM, DD).</p>
+         */
+        SYNTAX,
+        /**
+         * <p>El año es anterior a 1583 o no se puede representar.</p>
+         */
+        YEAR,
+        /**
+         * <p>El mes no está entre 1 y 12.</p>
+         */
+        MONTH,
+        /**
+         * <p>El día no existe en el mes.</p>
+         */
+        DAY
+    }
+
+    private static final Reason[] REASONS  = Reason.values();
+    private static final int WORD_SHIFT    = 6;
+    private static final int INITIAL_WORDS = 16;
+
+    private final long[] counts = new long[REASONS.length];
+    private long[] invalid      = new long[INITIAL_WORDS];
+    private long rows;
+
+    /**
+     * <p>Valida una fecha sin lanzar excepciones. Es la única implementación de las reglas del calendario:
+     * GregorianDate.isValidDate, PackedDates.isValid y DateParser la usan.</p>
+     * <p>No limita el año a PackedDates.MAX_YEAR porque GregorianDate sí representa esos años,
+     * PackedDates.isValid agrega ese límite.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return El motivo por el que la fecha es inválida o null si es válida.
+     */
+    public static Reason check(final long year, final int month, final int day) {
+        if (!GregorianDate.checkYear(year)) {
+            return Reason.YEAR;
+        }
+        if (month < Month.JANUARY.toNumber() || month > Month.DECEMBER.toNumber()) {
+            return Reason.MONTH;
+        }
+        return checkDay(year, Month.fromNumber(month), day);
+    }
+
+    /**
+     * <p>Igual que check(long, int, int) con el mes como enumeración, un mes null es Reason.MONTH.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return El motivo por el que la fecha es inválida o null si es válida.
+     */
+    static Reason check(final long year, final Month month, final int day) {
+        if (!GregorianDate.checkYear(year)) {
+            return Reason.YEAR;
+        }
+        if (month == null) {
+            return Reason.MONTH;
+        }
+        return checkDay(year, month, day);
+    }
+
+    /**
+     * @param year Año posterior a 1582.
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return Reason.DAY si el día no existe en el mes o null si es válido.
+     */
+    private static Reason checkDay(final long year, final Month month, final int day) {
+        final int leap = month == Month.FEBRUARY && GregorianDate.isLeap(year) ? 1 : 0;
+        return day < 1 || day > month.getDays() + leap ? Reason.DAY : null;
+    }
+
+    /**
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Si la fecha es válida.
+     */
+    public boolean accept(final long year, final int month, final int day) {
+        return record(check(year, month, day));
+    }
+
+    /**
+     * <p>Valida las filas [offset, offset + length) de las columnas.</p>
+     * @param years Años.
+     * @param months Meses.
+     * @param days Días.
+     * @param offset Primera fila.
+     * @param length Cantidad de filas.
+     * @return Cantidad de filas inválidas.
+     * @throws IndexOutOfBoundsException Si el rango está fuera de alguna columna.
+     */
+    public long accept(final long[] years, final int[] months, final int[] days, final int offset,
+                       final int length) {
+        final int end = offset + length;
+        if (offset < 0 || length < 0 || end > years.length || end > months.length || end > days.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(rows + length);
+        long failures = 0;
+        for (int i = offset; i < end; i++) {
+            if (!record(check(years[i], months[i], days[i]))) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * <p>Valida las líneas entre la posición y el límite del buffer, una fecha ISO-8601 o de tupla por línea.
+     * Las líneas terminan en \n o \r\n y la última puede no tener salto de línea. Al terminar la posición queda en
+     * el límite.</p>
+     * @param buffer Buffer con texto ASCII.
+     * @return Cantidad de líneas inválidas.
+     */
+    public long acceptLines(final ByteBuffer buffer) {
+        final int end = buffer.limit();
+        long failures = 0;
+        int start     = buffer.position();
+        while (start < end) {
+            int newline = start;
+            while (newline < end && buffer.get(newline) != '\n') {
+                newline++;
+            }
+            final int lineEnd = newline > start && buffer.get(newline - 1) == '\r' ? newline - 1 : newline;
+            if (!record(DateParser.parseDetailed(buffer, start, lineEnd))) {
+                failures++;
+            }
+            start = newline + 1;
+        }
+        ((Buffer) buffer).position(end);
+        return failures;
+    }
+
+    /**
+     * <p>Valida las líneas de bytes[offset, offset + length), con las mismas reglas de acceptLines(ByteBuffer).</p>
+     * @param bytes Texto ASCII.
+     * @param offset Posición inicial.
+     * @param length Cantidad de bytes.
+     * @return Cantidad de líneas inválidas.
+     * @throws IndexOutOfBoundsException Si el rango está fuera del arreglo.
+     */
+    public long acceptLines(final byte[] bytes, final int offset, final int length) {
+        return acceptLines(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * @return Cantidad de filas validadas.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * @return Cantidad de filas inválidas.
+     */
+    public long invalidRows() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * @param reason Motivo.
+     * @return Cantidad de filas inválidas por el motivo.
+     */
+    public long count(final Reason reason) {
+        return counts[reason.ordinal()];
+    }
+
+    /**
+     * @param row Número de fila.
+     * @return Si la fila es inválida.
+     * @throws IndexOutOfBoundsException Si la fila no se ha validado.
+     */
+    public boolean isInvalid(final long row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(Long.toString(row));
+        }
+        return (invalid[(int) (row >>> WORD_SHIFT)] & 1L << row) != 0;
+    }
+
+    /**
+     * @return Copia del mapa de bits de filas inválidas, el bit \(i \bmod 64\) de la palabra \(i / 64\)
+     * corresponde a la fila i, el mismo formato de BitSet.toLongArray().
+     */
+    public long[] invalidBitmap() {
+        return Arrays.copyOf(invalid, (int) ((rows + Long.SIZE - 1) >>> WORD_SHIFT));
+    }
+
+    /**
+     * @return Filas inválidas como BitSet.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(invalidBitmap());
+    }
+
+    /**
+     * <p>Descarta las filas y los conteos.</p>
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(invalid, 0);
+        rows = 0;
+    }
+
+    /**
+     * @param packed Fecha empacada o código de DateParser.parseDetailed.
+     * @return Si la fecha es válida.
+     */
+    private boolean record(final long packed) {
+        return record(packed >= 0 ? null : REASONS[(int) (PackedDates.INVALID - packed)]);
+    }
+
+    /**
+     * @param reason Motivo o null si la fila es válida.
+     * @return Si la fila es válida.
+     */
+    private boolean record(final Reason reason) {
+        ensureCapacity(rows + 1);
+        final long row = rows++;
+        if (reason == null) {
+            return true;
+        }
+        counts[reason.ordinal()]++;
+        invalid[(int) (row >>> WORD_SHIFT)] |= 1L << row;
+        return false;
+    }
+
+    /**
+     * @param size Cantidad de filas que debe poder guardar el mapa de bits.
+     */
+    private void ensureCapacity(final long size) {
+        final long words = (size + Long.SIZE - 1) >>> WORD_SHIFT;
+        if (words > invalid.length) {
+            invalid = Arrays.copyOf(invalid, (int) Math.min(Integer.MAX_VALUE - 8,
+                    Math.max(words, 2L * invalid.length)));
+        }
+    }
+}
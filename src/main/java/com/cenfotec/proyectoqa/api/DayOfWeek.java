@@ -19,6 +19,11 @@ public enum DayOfWeek {
     private static final int MAX_INDEX = 6;
     private static final int MIN_INDEX = 0;
 
+    /**
+     * <p>El día época 0 (1970-01-01) fue jueves.</p>
+     */
+    private static final int EPOCH_DAY_INDEX = 4;
+
 
     /**
      * <p>Mapea la representación numérica a su enumeración equivalente.</p>
@@ -32,6 +37,39 @@ public enum DayOfWeek {
         return DAYS_IN_WEEK[dayOfWeekNumber];
     }
 
+    /**
+     * <p>Calcula el día de la semana de un día época.</p>
+     * @param epochDay Días transcurridos desde 1970-01-01.
+     * @return Enumeración con el día de la semana.
+     */
+    public static DayOfWeek ofEpochDay(final long epochDay) {
+        return DAYS_IN_WEEK[(int) Math.floorMod(epochDay + EPOCH_DAY_INDEX, (long) DAYS_IN_WEEK.length)];
+    }
+
+    /**
+     * <p>Máscara de bits del día, se usa para representar conjuntos de días como los fines de semana.</p>
+     * @return \(2^{ordinal}\)
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * <p>Combina las máscaras de varios días.</p>
+     *  <pre><code class="language-java">
+     *      DayOfWeek.mask(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+     *  </code></pre>
+     * @param days Días de la semana.
+     * @return Máscara con un bit por cada día.
+     */
+    public static int mask(final DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= day.mask();
+        }
+        return mask;
+    }
+
     /**
      * <p>Cantidad de días en un semana.</p>
      * @return Número de días en una semana.
@@ -1,5 +1,9 @@
 package com.cenfotec.proyectoqa.api;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+
 /**
  * <p>
  *     GregorianDate es un objeto inmutable de fecha (Calendario gregoriano) que
@@ -36,13 +40,78 @@ public final class GregorianDate implements Date {
     /**
      * <p>El intervalo en siglos en el cual hay un año bisiesto.</p>
      */
-    private static final long LEAP_CENTURY_INTERVAL = LEAP_YEAR_INTERVAL * CENTURY_INTERVAL;
+    static final long LEAP_CENTURY_INTERVAL = LEAP_YEAR_INTERVAL * CENTURY_INTERVAL;
+
+    /**
+     * <p>Cantidad de días en un ciclo de 400 años: \(400\cdot 365 + 97\).</p>
+     */
+    static final int DAYS_IN_CYCLE        = 146097;
+
+    /**
+     * <p>Cantidad de días en un siglo cuyo primer año no es bisiesto: \(100\cdot 365 + 24\).</p>
+     */
+    private static final int DAYS_IN_CENTURY      = 36524;
+
+    /**
+     * <p>Cantidad de días en un grupo de 4 años que inicia con un año bisiesto: \(4\cdot 365 + 1\).</p>
+     */
+    private static final int DAYS_IN_LEAP_GROUP   = 1461;
+
+    /**
+     * <p>Año múltiplo de 400 más cercano a la época 1970-01-01, se usa como base para calcular el día época.</p>
+     */
+    static final long EPOCH_CYCLE_BASE       = 2000;
+
+    /**
+     * <p>Día época del 2000-01-01, o sea los días que hay entre 1970-01-01 y EPOCH_CYCLE_BASE.</p>
+     */
+    static final long EPOCH_DAY_OF_CYCLE_BASE = 10957;
+
+    /**
+     * <p>Día época del 1583-01-01, la primera fecha válida.</p>
+     */
+    static final long MIN_EPOCH_DAY = -141349;
+
+    /**
+     * <p>Días de enero y febrero en un año no bisiesto.</p>
+     */
+    private static final int DAYS_BEFORE_MARCH = 59;
+
+    /**
+     * <p>Los meses de marzo a enero siguen el patrón 31, 30, 31, 30, 31 que se repite cada 153 días (5 meses).</p>
+     */
+    private static final int DAYS_IN_MONTH_PATTERN   = 153;
+    private static final int MONTHS_IN_MONTH_PATTERN = 5;
+
+    /**
+     * <p>Bits que ocupa el día en la llave de comparación de mes y día.</p>
+     */
+    private static final int MONTH_DAY_SHIFT = 5;
+
+    /**
+     * <p>Distribución de los campos derivados dentro de derived: días del año (9 bits), día de la semana más uno
+     * (3 bits), si el año es bisiesto (1 bit) y los días dentro del ciclo de 400 años (18 bits).</p>
+     */
+    private static final int YEAR_DAYS_MASK    = (1 << 9) - 1;
+    private static final int DAY_OF_WEEK_SHIFT = 9;
+    private static final int DAY_OF_WEEK_MASK  = (1 << 3) - 1;
+    private static final int LEAP_SHIFT        = 12;
+    private static final int CYCLE_DAYS_SHIFT  = 13;
 
 
     private final int day;
     private final Month month;
     private final long year;
 
+    /**
+     * <p>Campos derivados empacados en un int, 0 si todavía no se han calculado. Se calculan la primera vez que se
+     * necesitan con el patrón racy single-check: el cálculo solo depende de los campos finales, así que si dos
+     * hilos lo calculan a la vez escriben el mismo valor, y la escritura de un int es atómica. Un long no se
+     * podría guardar de esta forma porque su escritura puede partirse en dos, por eso se guardan los días dentro
+     * del ciclo en lugar del día época.</p>
+     */
+    private int derived;
+
     /**
      *
      *<p>Este método construye una fecha del calendario gregoriano a partir del año mes y día.
@@ -54,12 +123,27 @@ public final class GregorianDate implements Date {
      */
 
     public GregorianDate(final long year, final Month month, final int day) {
-        if(month == null || !isValidDate(year, month, day)) {
+        this(year, month, day, true);
+    }
+
+    /**
+     * <p>Constructor privado que permite omitir la validación cuando la fecha se obtuvo de forma aritmética
+     * y ya se sabe que es válida.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes.
+     * @param validate Si se debe validar la fecha.
+     */
+    private GregorianDate(final long year, final Month month, final int day, final boolean validate) {
+        final long start = DateMetrics.start();
+        if(validate && (month == null || !isValidDate(year, month, day))) {
+            DateMetrics.recordValidationFailure();
             throw new IllegalArgumentException("Invalid date");
         }
         this.day   = day;
         this.month = month;
         this.year  = year;
+        DateMetrics.record(DateMetrics.Operation.CONSTRUCTION, start);
     }
 
     /**
@@ -76,17 +160,82 @@ public final class GregorianDate implements Date {
     }
 
     /**
-     * <p>Metodo para validar la fecha.</p>
+     * <p>Fabrica estática que retorna la instancia canónica de la fecha desde DateCache.shared().
+     * Las fechas que ya están en la caché no se vuelven a validar ni a crear.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return Fecha gregoriana.
+     */
+    public static GregorianDate of(final long year, final Month month, final int day) {
+        return DateCache.shared().get(year, month, day);
+    }
+
+    /**
+     * <p>Fabrica estática que retorna la instancia canónica de la fecha desde DateCache.shared().</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Fecha gregoriana.
+     */
+    public static GregorianDate of(final long year, final int month, final int day) {
+        return DateCache.shared().get(year, month, day);
+    }
+
+    /**
+     * <p>Fabrica estática que no lanza excepciones ni crea objetos, para interpretar datos que pueden ser
+     * inválidos. El resultado se lee con PackedDates o se convierte con PackedDates.toDate.</p>
+     * <p>Los años mayores a PackedDates.MAX_YEAR no se pueden empacar y también retornan PackedDates.INVALID.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Fecha empacada o PackedDates.INVALID si la fecha es inválida.
+     */
+    public static long tryOf(final long year, final int month, final int day) {
+        return PackedDates.isValid(year, month, day) ? PackedDates.pack(year, month, day) : PackedDates.INVALID;
+    }
+
+    /**
+     * <p>Igual que tryOf(long, int, int) con el mes como enumeración.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return Fecha empacada o PackedDates.INVALID si la fecha es inválida.
+     */
+    public static long tryOf(final long year, final Month month, final int day) {
+        return month == null ? PackedDates.INVALID : tryOf(year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Fabrica estática que interpreta una fecha con el formato ISO-8601 yyyy-MM-dd
+     * o con el formato (YYYY, MM, DD) de toString().</p>
+     * <p>A diferencia de DateParser.parse, acepta cualquier año de un long, así el resultado de toString()
+     * siempre se puede volver a interpretar.</p>
+     * @param text Texto con la fecha.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si el texto no es una fecha válida.
+     */
+    public static GregorianDate parse(final CharSequence text) {
+        final long[] year   = new long[1];
+        final long   packed = DateParser.parseLongYear(text, year);
+        if (packed == PackedDates.INVALID) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return new GregorianDate(year[0],
+                Month.fromNumber(PackedDates.month(packed)),
+                PackedDates.day(packed),
+                false);
+    }
+
+    /**
+     * <p>Metodo para validar la fecha, con las reglas de DateValidator.check.</p>
      * @param year Año
      * @param month Enumeración con el mes.
      * @param day Día del mes
      * @return Si la fecha es valida.
      */
     public static boolean isValidDate(long year, Month month, int day) {
-        final int leap = month == Month.FEBRUARY ? leapCount(year) : 0;
-        return 0 < day
-                &&  day <= (month.getDays() + leap)
-                && checkYear(year);
+        return DateValidator.check(year, month, day) == null;
     }
 
     /**
@@ -95,7 +244,7 @@ public final class GregorianDate implements Date {
      * @param year Año
      * @return Si el año es bisiesto.
      */
-    private static boolean isLeap(final long year) {
+    static boolean isLeap(final long year) {
         return year % LEAP_YEAR_INTERVAL == 0
                 && (year % CENTURY_INTERVAL != 0
                 || year % LEAP_CENTURY_INTERVAL == 0);
@@ -106,7 +255,7 @@ public final class GregorianDate implements Date {
      * @param year Año
      * @return Si el año es mayor a 1582
      */
-    private static boolean checkYear(final long year) {
+    static boolean checkYear(final long year) {
         return year > GREGORIAN_CALENDAR_INIT_DATE;
     }
 
@@ -116,6 +265,10 @@ public final class GregorianDate implements Date {
      * @return Si el año es bisiesto.
      */
     public static boolean isLeapYear(final long year) {
+        final YearTable table = YearTable.shared();
+        if (table.contains(year)) {
+            return table.isLeapYear(year);
+        }
         if(!checkYear(year)) {
             throw new IllegalArgumentException("Invalid year");
         }
@@ -128,51 +281,242 @@ public final class GregorianDate implements Date {
      */
     @Override
     public boolean isLeapYear() {
-        return isLeapYear(year);
+        return (derived() >>> LEAP_SHIFT & 1) != 0;
     }
 
     /**
      * <p>Una nueva fecha desplazada offset cantidad de días.</p>
-     * <p>Este método utiliza fromYearDays y suma el offset. Luego un
-     * ciclo corre hasta que la cantidad de días
-     * sea menor o igual a la cantidad de días que hay en un año (Este siglo corre solo para offset positivos)</p>
+     * <p>Este método no recorre los años uno por uno, por lo que su costo es constante sin importar el tamaño del offset.
+     * Primero se descompone el año como \(year = base + r\), donde base es múltiplo de 400 y \(0\leq r &lt; 400\).
+     * Como el calendario gregoriano se repite cada 400 años, los días transcurridos desde el primero de enero
+     * de base se pueden calcular sin conocer base:</p>
      *
      *  <pre><code class="language-java">
-     *      while (yearDays &gt; daysInYear(year)) {
-     *          yearDays -= daysInYear(year);
-     *          year = Math.incrementExact(year);
-     *      }
+     *      long cycleDays = Math.addExact(cycleDays(), offset);
      *  </code></pre>
-     * <p>Luego tenemos otro ciclo similar para offsets negativos. </p>
      *
-     * <pre><code class="language-java">
-     *     while(yearDays &lt;= 0) {
-     *         year = Math.decrementExact(year);
-     *         yearDays += daysInYear(year);
-     *     }
-     *  </code></pre>
-     *
-     *  Ambos ciclos recalculan el año agregándole o restándole a los días del año la cantidad de días que hay en este.
-     *  En cada ciglo se mantiene invariante el total neto de días.  Finalmente al terminar ambos ciclos, se tiene los días del año
-     *  y el año talque \(1\leq dias \leq 366\).
+     * <p>Finalmente fromCycleDays descompone esos días en ciclos de 400 años, siglos, grupos de 4 años y años
+     * para obtener el año y los días del año talque \(1\leq dias \leq 366\).
+     * Trabajar relativo a base evita desbordes para años cercanos a Long.MAX_VALUE;
+     * si el resultado no se puede representar se lanza ArithmeticException.</p>
      *
      * @param offset Dias que se quieren sumar o restar.
      * @return Una nueva fecha desplazada offset cantidad de dias.
      */
     @Override
     public GregorianDate addDays(final long offset) {
-        long yearDays = Math.addExact(getYearDays(), offset);
-        long year     = this.year;
+        final long start         = DateMetrics.start();
+        final long cycleBase     = year - Math.floorMod(year, LEAP_CENTURY_INTERVAL);
+        final long cycleDays     = Math.addExact(cycleDays(), offset);
+        final GregorianDate date = fromCycleDays(cycleBase, cycleDays);
+        DateMetrics.recordAddDays(start, cycleDays);
+        return date;
+    }
 
-        while (yearDays > daysInYear(year)) {
-            yearDays -= daysInYear(year);
-            year = Math.incrementExact(year);
+    /**
+     * <p>Calcula el día época de la fecha, o sea los días transcurridos desde 1970-01-01.</p>
+     * <p>Se calculan los ciclos de 400 años que hay entre el año y EPOCH_CYCLE_BASE,
+     * y se le suman los días dentro del ciclo:</p>
+     *  <pre><code class="language-java">
+     *      (Math.floorDiv(year, 400) - 5) * 146097 + cycleDays() + 10957
+     *  </code></pre>
+     * <p>Si el año está dentro de YearTable.shared() se suma los días del año al día época del primero de enero.</p>
+     * @return Día época.
+     * @throws ArithmeticException Si el día época no se puede representar con un long.
+     */
+    @Override
+    public long toEpochDay() {
+        final YearTable table = YearTable.shared();
+        if (table.contains(year)) {
+            return table.epochDay(year, getYearDays());
         }
-        while(yearDays <= 0) {
-            year = Math.decrementExact(year);
-            yearDays += daysInYear(year);
+        final long cycles = Math.floorDiv(year, LEAP_CENTURY_INTERVAL)
+                - EPOCH_CYCLE_BASE / LEAP_CENTURY_INTERVAL;
+        return Math.addExact(Math.multiplyExact(cycles, DAYS_IN_CYCLE),
+                cycleDays() + EPOCH_DAY_OF_CYCLE_BASE);
+    }
+
+    /**
+     * <p>Convierte la fecha a java.time.LocalDate sin pasar por texto.</p>
+     * @return Fecha equivalente.
+     * @throws DateTimeException Si el año es mayor a Year.MAX_VALUE.
+     */
+    public LocalDate toLocalDate() {
+        if (year > Year.MAX_VALUE) {
+            throw new DateTimeException("Invalid date");
         }
-        return fromYearDays((int) yearDays, year);
+        return LocalDate.of((int) year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Fabrica estática que convierte un java.time.LocalDate sin pasar por texto, retorna la instancia
+     * canónica de DateCache.shared().</p>
+     * @param date Fecha.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     */
+    public static GregorianDate from(final LocalDate date) {
+        return of(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * <p>Fabrica estática que crea la fecha correspondiente a un día época. Es la operación inversa de toEpochDay.</p>
+     * <p>Primero se separa el día época en ciclos de 400 años para que los cálculos no se desborden,
+     * luego fromCycleDays calcula la fecha sin recorrer años ni meses.</p>
+     * @param epochDay Días transcurridos desde 1970-01-01.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     */
+    public static GregorianDate ofEpochDay(final long epochDay) {
+        final long cycles = Math.floorDiv(epochDay, (long) DAYS_IN_CYCLE);
+        final long days   = Math.floorMod(epochDay, (long) DAYS_IN_CYCLE);
+        return fromCycleDays(EPOCH_CYCLE_BASE + cycles * LEAP_CENTURY_INTERVAL,
+                days - EPOCH_DAY_OF_CYCLE_BASE);
+    }
+
+    /**
+     * <p>Calcula la cantidad de días desde esta fecha hasta otra fecha.</p>
+     * <p>En lugar de restar los días época, que se desbordan para años muy grandes,
+     * se restan los ciclos de 400 años y luego los días dentro de cada ciclo:</p>
+     *  <pre><code class="language-java">
+     *      (otherCycle - cycle) * 146097 + otherCycleDays - cycleDays
+     *  </code></pre>
+     * @param other Fecha final.
+     * @return Días hasta la otra fecha, negativo si la otra fecha es anterior.
+     * @throws ArithmeticException Si la diferencia no se puede representar con un long.
+     */
+    @Override
+    public long daysUntil(final Date other) {
+        final long cycles = Math.subtractExact(
+                Math.floorDiv(other.getYear(), LEAP_CENTURY_INTERVAL),
+                Math.floorDiv(year, LEAP_CENTURY_INTERVAL));
+        final long days = cycleDays(other.getYear(), other.getMonth(), other.getDay())
+                - cycleDays();
+        return Math.addExact(Math.multiplyExact(cycles, DAYS_IN_CYCLE), days);
+    }
+
+    /**
+     * <p>Calcula la cantidad de días entre dos fechas.</p>
+     * @param start Fecha inicial.
+     * @param end Fecha final.
+     * @return Días entre las fechas, negativo si la fecha final es anterior a la inicial.
+     * @throws ArithmeticException Si la diferencia no se puede representar con un long.
+     */
+    public static long daysBetween(final Date start, final Date end) {
+        return start.daysUntil(end);
+    }
+
+    /**
+     * <p>Calcula los días que hay entre el primero de enero del año múltiplo de 400 anterior
+     * (o igual) al año de la fecha y la fecha.</p>
+     * @return Días dentro del ciclo de 400 años. \(0\leq dias &lt; 146097\)
+     */
+    private long cycleDays() {
+        return derived() >>> CYCLE_DAYS_SHIFT;
+    }
+
+    /**
+     * <p>Calcula los días que hay entre el primero de enero del año múltiplo de 400 anterior
+     * (o igual) al año y la fecha.</p>
+     * @param year Año
+     * @param month Mes
+     * @param day Día del mes
+     * @return Días dentro del ciclo de 400 años. \(0\leq dias &lt; 146097\)
+     */
+    static long cycleDays(final long year, final Month month, final int day) {
+        final int cycleYear = (int) Math.floorMod(year, LEAP_CENTURY_INTERVAL);
+        final int leap      = greaterThanFebruary(month) && isLeap(year) ? 1 : 0;
+        return daysBeforeCycleYear(cycleYear)
+                + month.getAccumulatedDays()
+                + leap
+                + day - 1;
+    }
+
+    /**
+     * <p>Calcula los días que hay entre el primero de enero de un año múltiplo de 400 y el primero de enero
+     * del año r dentro de ese ciclo.</p>
+     * <p>El año 0 del ciclo es bisiesto (divisible entre 400), y de los años \(1,2,\cdots,r-1\) son bisiestos
+     * los divisibles entre 4 que no son divisibles entre 100:</p>
+     *  <pre><code class="language-java">
+     *      365 * r + 1 + (r - 1) / 4 - (r - 1) / 100
+     *  </code></pre>
+     * @param cycleYear Año dentro del ciclo. \(0\leq r &lt; 400\)
+     * @return Días antes del año dentro del ciclo.
+     */
+    private static int daysBeforeCycleYear(final int cycleYear) {
+        if (cycleYear == 0) {
+            return 0;
+        }
+        final int previous = cycleYear - 1;
+        return DAYS_IN_YEAR_NO_LEAP * cycleYear
+                + 1
+                + previous / (int) LEAP_YEAR_INTERVAL
+                - previous / (int) CENTURY_INTERVAL;
+    }
+
+    /**
+     * <p>Calcula la fecha que está a cycleDays días del primero de enero del año cycleBase,
+     * donde cycleBase es múltiplo de 400.</p>
+     * <p>Se separan los ciclos completos de 400 años y packCycleDays calcula el año dentro del ciclo,
+     * el mes y el día. Si el año resultante no se puede representar se lanza ArithmeticException.</p>
+     * @param cycleBase Año múltiplo de 400.
+     * @param cycleDays Días desde el primero de enero de cycleBase (pueden ser negativos).
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si el año es menor o igual a 1582.
+     */
+    private static GregorianDate fromCycleDays(final long cycleBase, final long cycleDays) {
+        final long cycles = Math.floorDiv(cycleDays, (long) DAYS_IN_CYCLE);
+        final long packed = packCycleDays((int) Math.floorMod(cycleDays, (long) DAYS_IN_CYCLE));
+        final long year   = Math.addExact(
+                Math.addExact(cycleBase, Math.multiplyExact(cycles, LEAP_CENTURY_INTERVAL)),
+                PackedDates.year(packed));
+        if (!checkYear(year)) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return new GregorianDate(year,
+                Month.fromNumber(PackedDates.month(packed)),
+                PackedDates.day(packed),
+                false);
+    }
+
+    /**
+     * <p>Es la operación inversa de daysBeforeCycleYear. Calcula la fecha que está a cycleDays días
+     * del primero de enero de un año múltiplo de 400.</p>
+     * <p>Los días se descomponen de la siguiente manera:</p>
+     * <ul>
+     *     <li>Siglos dentro del ciclo. El primer siglo tiene 36525 días porque su primer año es divisible entre 400,
+     *     los demás tienen 36524.</li>
+     *     <li>Grupos de 4 años dentro del siglo. Cada grupo tiene 1461 días excepto el primer grupo de un siglo
+     *     no bisiesto, que tiene 1460.</li>
+     *     <li>Años dentro del grupo. Si el grupo inicia con un año bisiesto el primer año tiene 366 días.</li>
+     * </ul>
+     * <p>Como cada descomposición es una división, el costo es constante.
+     * El resultado se empaca con PackedDates para no crear objetos; el año es relativo al ciclo.</p>
+     * @param cycleDays Días dentro del ciclo. \(0\leq dias &lt; 146097\)
+     * @return Fecha empacada cuyo año es el año dentro del ciclo. \(0\leq r &lt; 400\)
+     */
+    static long packCycleDays(final int cycleDays) {
+        int days = cycleDays;
+
+        // (days - 1) trunca hacia cero, así el día 0 y el día 36524 pertenecen al primer siglo.
+        final int centuries    = (days - 1) / DAYS_IN_CENTURY;
+        final int centuryShift = centuries > 0 ? 1 : 0;
+        days -= centuries * DAYS_IN_CENTURY + centuryShift;
+
+        final int groups = (days + centuryShift) / DAYS_IN_LEAP_GROUP;
+        days -= groups * DAYS_IN_LEAP_GROUP - (groups > 0 ? centuryShift : 0);
+
+        final boolean leapGroup = groups > 0 || centuries == 0;
+        final int years         = leapGroup
+                ? (days - 1) / DAYS_IN_YEAR_NO_LEAP
+                : days / DAYS_IN_YEAR_NO_LEAP;
+        days -= years * DAYS_IN_YEAR_NO_LEAP + (leapGroup && years > 0 ? 1 : 0);
+
+        final long cycleYear = centuries * CENTURY_INTERVAL
+                + groups * LEAP_YEAR_INTERVAL
+                + years;
+        final int leap = leapGroup && years == 0 ? 1 : 0;
+        return packYearDays(days, cycleYear, leap);
     }
 
     /**
@@ -185,55 +529,39 @@ public final class GregorianDate implements Date {
     }
 
     /**
-     * <p>Es la operación inversa del método daysInYear(final long year).
-     *  Calcula una fecha a partir del año y los días de ese año. </p>
+     * <p>Es la operación inversa del método getYearDays().
+     *  Calcula una fecha a partir del año y los días de ese año, sin recorrer los meses. </p>
      *
      *  <p>
-     *      Empezando desde diciembre se busca el mes en el cual los días acumulados sean menores a los días del año.
-     *      (Esto sirve porque los valores acumulados se recorren de forma descendiente).
+     *      Enero y febrero se resuelven directamente. Para los demás meses se cuentan los días desde el primero de marzo,
+     *      así el día bisiesto queda fuera del cálculo. Los meses de marzo a enero siguen el patrón 31, 30, 31, 30, 31
+     *      que se repite cada 153 días, por lo que el mes y el día se obtienen con:
      *  </p>
      *   <pre><code class="language-java">
-     *      Month month = Month.DECEMBER;
-     *      int leap    = leapCount(year);
-     *
-     *      while(daysOfYear &lt;= (month.getAccumulatedDays() + leap)) {
-     *          month = month.previous();
-     *          leap  = !greaterThanFebruary(month) ? 0 : leap;
-     *      }
+     *      int monthIndex = (5 * marchDays + 2) / 153;
+     *      int days       = marchDays - (153 * monthIndex + 2) / 5 + 1;
      *   </code></pre>
      *
-     *  <p>Finalmente se calcula los días de la fecha, restando los días acumulados y 1 en caso de que el mes sea mayor a febrero y el año bisiesto</p>
-     *
-     *   <pre><code class="language-java">
-     *     int days = daysOfYear
-     *                 - month.getAccumulatedDays()
-     *                 - leap;
-     *     </code></pre>
-     * @param daysOfYear Días del año
+     * @param yearDays Días del año empezando en cero. \(0\leq dias &lt; 366\)
      * @param year Año
-     * @return Fecha gregoriana.
+     * @param leap 1 si el año es bisiesto o de lo contrario 0.
+     * @return Fecha empacada con PackedDates, sin validar el año.
      */
-    private GregorianDate fromYearDays(final int daysOfYear, final long year) {
-        Month month = Month.DECEMBER;
-        int leap    = leapCount(year);
-
-        while(daysOfYear <= (month.getAccumulatedDays() + leap)) {
-            month = month.previous();
-            leap  = !greaterThanFebruary(month) ? 0 : leap;
+    static long packYearDays(final int yearDays, final long year, final int leap) {
+        final int daysBeforeMarch = DAYS_BEFORE_MARCH + leap;
+        if (yearDays < Month.JANUARY.getDays()) {
+            return PackedDates.pack(year, Month.JANUARY.toNumber(), yearDays + 1);
         }
-        int days = daysOfYear
-                - month.getAccumulatedDays()
-                - leap;
-        return new GregorianDate(year, month, days);
-    }
-
-    /**
-     * <p>Calcula la cantidad de días que hay en un año en específico.</p>
-     * @param year Año
-     * @return Cantidad de días en un año: 365 para años normales y 366 para bisiestos.
-     */
-    private int daysInYear(final long year) {
-        return DAYS_IN_YEAR_NO_LEAP + leapCount(year);
+        if (yearDays < daysBeforeMarch) {
+            return PackedDates.pack(year, Month.FEBRUARY.toNumber(),
+                    yearDays - Month.JANUARY.getDays() + 1);
+        }
+        final int marchDays  = yearDays - daysBeforeMarch;
+        final int monthIndex = (MONTHS_IN_MONTH_PATTERN * marchDays + 2) / DAYS_IN_MONTH_PATTERN;
+        final int days       = marchDays
+                - (DAYS_IN_MONTH_PATTERN * monthIndex + 2) / MONTHS_IN_MONTH_PATTERN
+                + 1;
+        return PackedDates.pack(year, Month.MARCH.toNumber() + monthIndex, days);
     }
 
     /**
@@ -242,11 +570,40 @@ public final class GregorianDate implements Date {
      */
     @Override
     public int getYearDays() {
-        int days =  month.getAccumulatedDays() + day;
+        return derived() & YEAR_DAYS_MASK;
+    }
+
+    /**
+     * @return Campos derivados empacados, se calculan una sola vez por instancia.
+     */
+    private int derived() {
+        int fields = derived;
+        if (fields == 0) {
+            fields  = computeDerived();
+            derived = fields;
+        }
+        return fields;
+    }
+
+    /**
+     * <p>Calcula los días del año, el día de la semana, si el año es bisiesto y los días dentro del ciclo de
+     * 400 años. El día de la semana se guarda más uno para que el resultado nunca sea 0.</p>
+     * <p>Si el año está dentro de YearTable.shared() el día de la semana se obtiene de la tabla con los días del
+     * año, si no se calcula con computeDayOfWeek.</p>
+     * @return Campos derivados empacados.
+     */
+    private int computeDerived() {
+        final YearTable table = YearTable.shared();
+        final int leap        = isLeapYear(year) ? 1 : 0;
+        int days              = month.getAccumulatedDays() + day;
         if (greaterThanFebruary(month)) {
-            days += leapCount(year);
+            days += leap;
         }
-        return  days;
+        final DayOfWeek dayOfWeek = table.contains(year) ? table.dayOfWeek(year, days) : computeDayOfWeek();
+        return (int) cycleDays(year, month, day) << CYCLE_DAYS_SHIFT
+                | leap << LEAP_SHIFT
+                | (dayOfWeek.ordinal() + 1) << DAY_OF_WEEK_SHIFT
+                | days;
     }
 
     /***
@@ -375,12 +732,28 @@ public final class GregorianDate implements Date {
      *           Math.floorMod(-1, 4); // 3
      *       </code></pre>
      *
+     * <p>Para los años dentro de YearTable.shared() se usa la tabla en lugar del algoritmo. En ambos casos se
+     * calcula una sola vez por instancia, el resultado queda guardado en los campos derivados junto con los días
+     * del año.</p>
+     *
      * @return Día correspondiente a la fecha gregoriana.
      *
      *
      */
     @Override
     public DayOfWeek getDayOfWeek() {
+        final long start          = DateMetrics.start();
+        final DayOfWeek dayOfWeek = DayOfWeek.ofIndex((derived() >>> DAY_OF_WEEK_SHIFT & DAY_OF_WEEK_MASK) - 1);
+        DateMetrics.record(DateMetrics.Operation.DAY_OF_WEEK, start);
+        return dayOfWeek;
+    }
+
+    /**
+     * <p>Calcula el día de la semana con el algoritmo descrito en getDayOfWeek, se llama desde computeDerived
+     * para los años fuera de YearTable.shared().</p>
+     * @return Día de la semana
+     */
+    private DayOfWeek computeDayOfWeek() {
         final long yearCopy = year - (!greaterThanFebruary(month) ? 1 : 0);
         final long century  = Math.floorDiv(yearCopy, CENTURY_INTERVAL);
         final long week = (day
@@ -419,15 +792,6 @@ public final class GregorianDate implements Date {
         return month;
     }
 
-    /**
-     * <p>Esta función retorna 1 si el año es bisiesto o de lo contrario 0. </p>
-     * @param year Año.
-     * @return  1 si el año es bisiesto o de lo contrario 0.
-     */
-    private static int leapCount(final long year) {
-        return isLeapYear(year) ? 1 : 0;
-    }
-
 
     /**
      * <p>Esta función verifica que el mes sea posterior a febrero.</p>
@@ -507,17 +871,83 @@ public final class GregorianDate implements Date {
                 - (greaterThanFebruary(month) ? 1 : 0);
     }
 
+    /**
+     * <p>Escribe la fecha con el formato (YYYY, MM, DD) sin crear objetos intermedios.</p>
+     * @param builder Destino.
+     * @return El mismo builder.
+     */
+    public StringBuilder formatTo(final StringBuilder builder) {
+        return DateFormatter.formatTo(builder, year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Escribe la fecha en bytes ASCII con el formato (YYYY, MM, DD).</p>
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     * @throws IndexOutOfBoundsException Si la fecha no cabe en el arreglo.
+     */
+    public int formatTo(final byte[] bytes, final int offset) {
+        return DateFormatter.formatTo(bytes, offset, year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Escribe la fecha con el formato ISO-8601 yyyy-MM-dd sin crear objetos intermedios.</p>
+     * @param builder Destino.
+     * @return El mismo builder.
+     */
+    public StringBuilder formatIsoTo(final StringBuilder builder) {
+        return DateFormatter.formatIsoTo(builder, year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Escribe la fecha en bytes ASCII con el formato ISO-8601 yyyy-MM-dd.</p>
+     * @param bytes Destino.
+     * @param offset Posición inicial.
+     * @return Posición siguiente al último byte escrito.
+     * @throws IndexOutOfBoundsException Si la fecha no cabe en el arreglo.
+     */
+    public int formatIsoTo(final byte[] bytes, final int offset) {
+        return DateFormatter.formatIsoTo(bytes, offset, year, month.toNumber(), day);
+    }
+
     /**
      * <p>Método retorna una representación con el formato (YYYY, MM, DD)</p>
      * @return (YYYY, MM, DD).
      */
     @Override
     public String toString() {
-        return String.format("(%04d, %02d, %02d)",
-                year, month.toNumber(), day);
+        return formatTo(new StringBuilder(DateFormatter.tupleLength(year))).toString();
     }
 
 
+    /**
+     * <p>Compara cronológicamente con otra fecha. Si los años son iguales se compara una sola llave empacada
+     * con el mes y el día:</p>
+     *  <pre><code class="language-java">
+     *      month.ordinal() &lt;&lt; 5 | day
+     *  </code></pre>
+     * @param other Fecha a comparar.
+     * @return Negativo, cero o positivo si la fecha es anterior, igual o posterior a la otra.
+     */
+    @Override
+    public int compareTo(final Date other) {
+        final long otherYear = other.getYear();
+        if (year != otherYear) {
+            return Long.compare(year, otherYear);
+        }
+        return Integer.compare(monthDayKey(month, day), monthDayKey(other.getMonth(), other.getDay()));
+    }
+
+    /**
+     * @param month Mes.
+     * @param day Día del mes.
+     * @return Llave que ordena el mes y el día dentro del año.
+     */
+    private static int monthDayKey(final Month month, final int day) {
+        return month.ordinal() << MONTH_DAY_SHIFT | day;
+    }
+
     /**
      * <p>Método equals.</p>
      * @param other El objeto a comparar.
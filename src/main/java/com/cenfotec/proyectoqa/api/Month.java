@@ -1,5 +1,6 @@
 package com.cenfotec.proyectoqa.api;
 
+import java.util.Optional;
 
 /**
  *
@@ -27,6 +28,11 @@ public enum Month {
 
     private static final Month[] MONTHS = Month.values();
 
+    /**
+     * <p>Optional de cada mes, se crean una sola vez para que tryFromNumber no cree objetos.</p>
+     */
+    private static final Object[] PRESENT = new Object[MONTHS.length];
+
     private final int days;
     private int accumulatedDays;
 
@@ -38,6 +44,7 @@ public enum Month {
         for (Month month : MONTHS) {
             month.accumulatedDays = accumulatedCount;
             accumulatedCount += month.getDays();
+            PRESENT[month.ordinal()] = Optional.of(month);
         }
 
     }
@@ -84,6 +91,20 @@ public enum Month {
         return MONTHS[number - 1];
     }
 
+    /**
+     * <p>Igual que fromNumber pero sin lanzar excepciones. Los Optional se reutilizan, por lo que no crea
+     * objetos.</p>
+     * @param number Representación numérica del mes.
+     * @return El mes o Optional.empty() si el número no está entre 1 y 12.
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<Month> tryFromNumber(final int number) {
+        if (MONTHS.length < number || number < 1) {
+            return Optional.empty();
+        }
+        return (Optional<Month>) PRESENT[number - 1];
+    }
+
     /**
      * <p>Calcula la enumeración que corresponde al desplazamiento dado por offset.</p>
      * @param offset Desplazamiento negativo o positivo en meses con respecto al mes.
@@ -0,0 +1,307 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>PackedDates es una clase utilitaria que representa una fecha del calendario gregoriano
+ * empacada en un long primitivo, con el formato:</p>
+ *  <pre><code class="language-java">
+ *      year &lt;&lt; 9 | month &lt;&lt; 5 | day
+ *  </code></pre>
+ * <p>Todas las operaciones trabajan directamente sobre el long, por lo que no crean objetos.
+ * Como el año ocupa los bits más significativos, el orden natural de los long empacados es el orden cronológico.
+ * Se recomienda convertir a GregorianDate solo cuando se necesita la interface Date.</p>
+ * <p>A diferencia de GregorianDate, el año está limitado a \(1583\leq year \leq 2^{54}-1\).</p>
+ */
+public final class PackedDates {
+
+    /**
+     * <p>Valor reservado que representa una fecha inválida. Ninguna fecha válida empacada es negativa.</p>
+     */
+    public static final long INVALID = -1L;
+
+    /**
+     * <p>Cantidad de bits del día.</p>
+     */
+    private static final int DAY_BITS   = 5;
+
+    /**
+     * <p>Cantidad de bits del mes.</p>
+     */
+    private static final int MONTH_BITS = 4;
+
+    private static final int MONTH_SHIFT = DAY_BITS;
+    private static final int YEAR_SHIFT  = DAY_BITS + MONTH_BITS;
+    private static final long DAY_MASK   = (1L << DAY_BITS) - 1;
+    private static final long MONTH_MASK = (1L << MONTH_BITS) - 1;
+
+    /**
+     * <p>Año máximo que se puede empacar.</p>
+     */
+    public static final long MAX_YEAR = Long.MAX_VALUE >>> YEAR_SHIFT;
+
+    private PackedDates() {
+    }
+
+    /**
+     * <p>Empaca el año, mes y día sin validarlos.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Fecha empacada.
+     */
+    static long pack(final long year, final int month, final int day) {
+        return year << YEAR_SHIFT
+                | (long) month << MONTH_SHIFT
+                | day;
+    }
+
+    /**
+     * <p>Empaca una fecha validando que sea correcta según el calendario gregoriano.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Fecha empacada.
+     * @throws IllegalArgumentException Si la fecha es inválida.
+     */
+    public static long of(final long year, final int month, final int day) {
+        if (!isValid(year, month, day)) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return pack(year, month, day);
+    }
+
+    /**
+     * <p>Empaca una fecha validando que sea correcta según el calendario gregoriano.</p>
+     * @param year Año
+     * @param month Enumeración con el mes.
+     * @param day Día del mes
+     * @return Fecha empacada.
+     * @throws IllegalArgumentException Si la fecha es inválida.
+     */
+    public static long of(final long year, final Month month, final int day) {
+        return of(year, month.toNumber(), day);
+    }
+
+    /**
+     * <p>Empaca una fecha.</p>
+     * @param date Fecha
+     * @return Fecha empacada.
+     * @throws IllegalArgumentException Si el año es mayor a MAX_YEAR.
+     */
+    public static long of(final Date date) {
+        if (date.getYear() > MAX_YEAR) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return pack(date.getYear(), date.getMonth().toNumber(), date.getDay());
+    }
+
+    /**
+     * <p>Convierte la fecha empacada a un GregorianDate.</p>
+     * @param packed Fecha empacada.
+     * @return Fecha gregoriana.
+     * @throws IllegalArgumentException Si la fecha empacada es inválida.
+     */
+    public static GregorianDate toDate(final long packed) {
+        return new GregorianDate(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Año
+     */
+    public static long year(final long packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Mes \(1\leq mes \leq 12\)
+     */
+    public static int month(final long packed) {
+        return (int) ((packed >>> MONTH_SHIFT) & MONTH_MASK);
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Día del mes
+     */
+    public static int day(final long packed) {
+        return (int) (packed & DAY_MASK);
+    }
+
+    /**
+     * <p>Valida una fecha sin lanzar excepciones, con las reglas de DateValidator.check más el límite
+     * \(year \leq MAX\_YEAR\) del empaque.</p>
+     * @param year Año
+     * @param month Mes \(1\leq mes \leq 12\)
+     * @param day Día del mes
+     * @return Si la fecha es válida y se puede empacar.
+     */
+    public static boolean isValid(final long year, final int month, final int day) {
+        return year <= MAX_YEAR
+                && DateValidator.check(year, month, day) == null;
+    }
+
+    /**
+     * <p>Valida una fecha empacada sin lanzar excepciones.</p>
+     * @param packed Fecha empacada.
+     * @return Si la fecha empacada es válida.
+     */
+    public static boolean isValid(final long packed) {
+        return packed > 0
+                && isValid(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Si el año es bisiesto.
+     */
+    public static boolean isLeapYear(final long packed) {
+        return GregorianDate.isLeap(year(packed));
+    }
+
+    /**
+     * <p>Calcula la cantidad de días del año.</p>
+     * @param packed Fecha empacada.
+     * @return Días del año. \(1\leq dias \leq 366\)
+     */
+    public static int yearDays(final long packed) {
+        final int month = month(packed);
+        final int leap  = month > Month.FEBRUARY.toNumber() && isLeapYear(packed) ? 1 : 0;
+        return Month.fromNumber(month).getAccumulatedDays()
+                + leap
+                + day(packed);
+    }
+
+    /**
+     * <p>Calcula el día época, o sea los días transcurridos desde 1970-01-01.
+     * No se desborda porque el año está limitado a MAX_YEAR.</p>
+     * @param packed Fecha empacada.
+     * @return Día época.
+     */
+    public static long toEpochDay(final long packed) {
+        final long year   = year(packed);
+        final long cycles = year / GregorianDate.LEAP_CENTURY_INTERVAL
+                - GregorianDate.EPOCH_CYCLE_BASE / GregorianDate.LEAP_CENTURY_INTERVAL;
+        return cycles * GregorianDate.DAYS_IN_CYCLE
+                + GregorianDate.cycleDays(year, Month.fromNumber(month(packed)), day(packed))
+                + GregorianDate.EPOCH_DAY_OF_CYCLE_BASE;
+    }
+
+    /**
+     * <p>Calcula la fecha empacada correspondiente a un día época.</p>
+     * @param epochDay Días transcurridos desde 1970-01-01.
+     * @return Fecha empacada.
+     * @throws IllegalArgumentException Si la fecha es anterior a 1583.
+     * @throws ArithmeticException Si el año es mayor a MAX_YEAR.
+     */
+    public static long ofEpochDay(final long epochDay) {
+        final long cycles = Math.floorDiv(epochDay, (long) GregorianDate.DAYS_IN_CYCLE);
+        final long days   = Math.floorMod(epochDay, (long) GregorianDate.DAYS_IN_CYCLE);
+        return fromCycleDays(GregorianDate.EPOCH_CYCLE_BASE + cycles * GregorianDate.LEAP_CENTURY_INTERVAL,
+                days - GregorianDate.EPOCH_DAY_OF_CYCLE_BASE);
+    }
+
+    /**
+     * <p>Calcula el día de la semana a partir del día época.</p>
+     * @param packed Fecha empacada.
+     * @return Día de la semana.
+     */
+    public static DayOfWeek dayOfWeek(final long packed) {
+        return DayOfWeek.ofEpochDay(toEpochDay(packed));
+    }
+
+    /**
+     * <p>Desplaza la fecha empacada offset cantidad de días. Utiliza la misma aritmética de ciclos de 400
+     * años que GregorianDate.addDays, por lo que su costo es constante.</p>
+     * @param packed Fecha empacada.
+     * @param offset Días que se quieren sumar o restar.
+     * @return Fecha empacada desplazada.
+     * @throws IllegalArgumentException Si la fecha resultante es anterior a 1583.
+     * @throws ArithmeticException Si el año resultante es mayor a MAX_YEAR.
+     */
+    public static long addDays(final long packed, final long offset) {
+        final long year      = year(packed);
+        final long cycleBase = year - year % GregorianDate.LEAP_CENTURY_INTERVAL;
+        final long cycleDays = GregorianDate.cycleDays(year, Month.fromNumber(month(packed)), day(packed));
+        return fromCycleDays(cycleBase, Math.addExact(cycleDays, offset));
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return La fecha empacada del día siguiente.
+     */
+    public static long nextDay(final long packed) {
+        return addDays(packed, 1);
+    }
+
+    /**
+     * <p>Calcula la cantidad de días entre dos fechas empacadas.</p>
+     * @param start Fecha inicial empacada.
+     * @param end Fecha final empacada.
+     * @return Días entre las fechas, negativo si la fecha final es anterior a la inicial.
+     */
+    public static long daysBetween(final long start, final long end) {
+        return toEpochDay(end) - toEpochDay(start);
+    }
+
+    /**
+     * <p>Compara dos fechas empacadas. Como el año está en los bits más significativos basta una comparación.</p>
+     * @param first Fecha empacada.
+     * @param second Fecha empacada.
+     * @return Negativo, cero o positivo si la primera fecha es anterior, igual o posterior a la segunda.
+     */
+    public static int compare(final long first, final long second) {
+        return Long.compare(first, second);
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Día época del primer día del mes.
+     */
+    static long firstEpochDayOfMonth(final long packed) {
+        return toEpochDay(pack(year(packed), month(packed), 1));
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Cantidad de días del mes.
+     */
+    static int lengthOfMonth(final long packed) {
+        final int month = month(packed);
+        final int leap  = month == Month.FEBRUARY.toNumber() && isLeapYear(packed) ? 1 : 0;
+        return Month.fromNumber(month).getDays() + leap;
+    }
+
+    /**
+     * @param packed Fecha empacada.
+     * @return Primer día del mes siguiente empacado.
+     */
+    static long firstDayOfNextMonth(final long packed) {
+        final int month = month(packed);
+        return month == Month.DECEMBER.toNumber()
+                ? pack(year(packed) + 1, Month.JANUARY.toNumber(), 1)
+                : pack(year(packed), month + 1, 1);
+    }
+
+    /**
+     * <p>Calcula la fecha empacada que está a cycleDays días del primero de enero del año cycleBase.</p>
+     * @param cycleBase Año múltiplo de 400.
+     * @param cycleDays Días desde el primero de enero de cycleBase (pueden ser negativos).
+     * @return Fecha empacada.
+     */
+    private static long fromCycleDays(final long cycleBase, final long cycleDays) {
+        final long cycles = Math.floorDiv(cycleDays, (long) GregorianDate.DAYS_IN_CYCLE);
+        final long packed = GregorianDate.packCycleDays(
+                (int) Math.floorMod(cycleDays, (long) GregorianDate.DAYS_IN_CYCLE));
+        final long year   = Math.addExact(
+                Math.addExact(cycleBase, Math.multiplyExact(cycles, GregorianDate.LEAP_CENTURY_INTERVAL)),
+                year(packed));
+        if (!GregorianDate.checkYear(year)) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        if (year > MAX_YEAR) {
+            throw new ArithmeticException("Year overflow");
+        }
+        return pack(year, month(packed), day(packed));
+    }
+}
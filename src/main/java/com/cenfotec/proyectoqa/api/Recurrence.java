@@ -0,0 +1,187 @@
+package com.cenfotec.proyectoqa.api;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Interface que representa una regla de recurrencia, por ejemplo "cada 14 días desde X" o
+ * "el último día hábil de cada mes".</p>
+ * <p>Cada regla calcula directamente la siguiente ocurrencia a partir de un día época: a lo sumo recorre
+ * los meses o años candidatos, nunca los días uno por uno. Las ocurrencias dentro de una ventana se generan
+ * de forma perezosa con iterator o stream.</p>
+ *  <pre><code class="language-java">
+ *      Recurrence.nthWeekdayOfMonth(2, DayOfWeek.TUESDAY)
+ *              .stream(Date.of(2024, 1, 1), Date.of(2025, 1, 1))
+ *              .forEach(System.out::println);
+ *  </code></pre>
+ */
+@FunctionalInterface
+public interface Recurrence {
+
+    /**
+     * <p>Calcula la primera ocurrencia en o después de un día época.</p>
+     * @param epochDay Día época.
+     * @return Día época de la ocurrencia.
+     */
+    long nextEpochDay(long epochDay);
+
+    /**
+     * @param date Fecha.
+     * @return Primera ocurrencia en o después de la fecha.
+     */
+    default GregorianDate next(final Date date) {
+        return GregorianDate.ofEpochDay(nextEpochDay(date.toEpochDay()));
+    }
+
+    /**
+     * <p>Genera de forma perezosa las ocurrencias en el intervalo [start, end).</p>
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @return Iterador de ocurrencias en orden.
+     */
+    default Iterator<GregorianDate> iterator(final Date start, final Date end) {
+        final long endEpochDay = end.toEpochDay();
+        final long first       = start.toEpochDay();
+        return new Iterator<GregorianDate>() {
+            private long current = first < endEpochDay ? nextEpochDay(first) : endEpochDay;
+
+            @Override
+            public boolean hasNext() {
+                return current < endEpochDay;
+            }
+
+            @Override
+            public GregorianDate next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final long occurrence = current;
+                current = occurrence + 1 < endEpochDay ? nextEpochDay(occurrence + 1) : endEpochDay;
+                return GregorianDate.ofEpochDay(occurrence);
+            }
+        };
+    }
+
+    /**
+     * <p>Genera de forma perezosa las ocurrencias en el intervalo [start, end).</p>
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @return Stream de ocurrencias en orden.
+     */
+    default Stream<GregorianDate> stream(final Date start, final Date end) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(start, end),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                        | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * <p>Ocurre cada days días a partir de anchor (incluido). La siguiente ocurrencia se calcula con:</p>
+     *  <pre><code class="language-java">
+     *      anchor + ceil((epochDay - anchor) / days) * days
+     *  </code></pre>
+     * <p>Se calcula como epochDay más lo que le falta al residuo para completar days, así no hay productos
+     * intermedios que se desborden. Si la ocurrencia no se puede representar, nextEpochDay lanza
+     * ArithmeticException.</p>
+     * @param anchor Primera ocurrencia.
+     * @param days Días entre ocurrencias.
+     * @return Regla de recurrencia.
+     * @throws IllegalArgumentException Si days no es positivo.
+     */
+    static Recurrence everyNDays(final Date anchor, final long days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Invalid interval");
+        }
+        final long first = anchor.toEpochDay();
+        return epochDay -> {
+            if (epochDay <= first) {
+                return first;
+            }
+            final long remainder = Math.subtractExact(epochDay, first) % days;
+            return remainder == 0 ? epochDay : Math.addExact(epochDay, days - remainder);
+        };
+    }
+
+    /**
+     * <p>Ocurre el n-ésimo día de la semana de cada mes, por ejemplo el segundo martes. Si n es negativo se cuenta
+     * desde el final del mes, -1 es el último. Los meses sin quinto día de la semana se omiten.</p>
+     * @param n Posición del día dentro del mes. \(1\leq n \leq 5\) o \(-5\leq n \leq -1\)
+     * @param dayOfWeek Día de la semana.
+     * @return Regla de recurrencia.
+     * @throws IllegalArgumentException Si n es inválido.
+     */
+    static Recurrence nthWeekdayOfMonth(final int n, final DayOfWeek dayOfWeek) {
+        final int maxWeeks = 5;
+        if (n == 0 || Math.abs(n) > maxWeeks) {
+            throw new IllegalArgumentException("Invalid week");
+        }
+        final int daysInWeek = DayOfWeek.daysInWeek();
+        final int target     = dayOfWeek.ordinal();
+        return epochDay -> {
+            long month = PackedDates.ofEpochDay(epochDay);
+            while (true) {
+                final long first      = PackedDates.firstEpochDayOfMonth(month);
+                final long last       = first + PackedDates.lengthOfMonth(month) - 1;
+                final long occurrence = n > 0
+                        ? first + Math.floorMod(target - DayOfWeek.ofEpochDay(first).ordinal(), daysInWeek)
+                                + (long) (n - 1) * daysInWeek
+                        : last - Math.floorMod(DayOfWeek.ofEpochDay(last).ordinal() - target, daysInWeek)
+                                + (long) (n + 1) * daysInWeek;
+                if (first <= occurrence && occurrence <= last && occurrence >= epochDay) {
+                    return occurrence;
+                }
+                month = PackedDates.firstDayOfNextMonth(month);
+            }
+        };
+    }
+
+    /**
+     * <p>Ocurre el último día hábil de cada mes según el calendario. Los meses sin días hábiles se omiten.</p>
+     * @param calendar Calendario de días hábiles.
+     * @return Regla de recurrencia.
+     */
+    static Recurrence lastBusinessDayOfMonth(final BusinessCalendar calendar) {
+        return epochDay -> {
+            long month = PackedDates.ofEpochDay(epochDay);
+            while (true) {
+                final long first      = PackedDates.firstEpochDayOfMonth(month);
+                final long next       = first + PackedDates.lengthOfMonth(month);
+                final long occurrence = calendar.addBusinessDays(next, -1);
+                if (occurrence >= first && occurrence >= epochDay) {
+                    return occurrence;
+                }
+                month = PackedDates.firstDayOfNextMonth(month);
+            }
+        };
+    }
+
+    /**
+     * <p>Ocurre una vez al año en el mes y día dados. Si el día no existe en el año se usa el último día del mes,
+     * por ejemplo el 29 de febrero ocurre el 28 de febrero en los años no bisiestos.</p>
+     * @param month Mes.
+     * @param day Día del mes, puede ser 29 de febrero.
+     * @return Regla de recurrencia.
+     * @throws IllegalArgumentException Si el día no existe en el mes en ningún año.
+     */
+    static Recurrence yearly(final Month month, final int day) {
+        final int maxDay = month.getDays() + (month == Month.FEBRUARY ? 1 : 0);
+        if (day < 1 || day > maxDay) {
+            throw new IllegalArgumentException("Invalid date");
+        }
+        return epochDay -> {
+            long year = PackedDates.year(PackedDates.ofEpochDay(epochDay));
+            while (true) {
+                final long first      = PackedDates.pack(year, month.toNumber(), 1);
+                final long occurrence = PackedDates.firstEpochDayOfMonth(first)
+                        + Math.min(day, PackedDates.lengthOfMonth(first)) - 1;
+                if (occurrence >= epochDay) {
+                    return occurrence;
+                }
+                year++;
+            }
+        };
+    }
+}
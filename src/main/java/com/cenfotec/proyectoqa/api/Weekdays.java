@@ -0,0 +1,91 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>Weekdays cuenta cuántas veces ocurre cada día de la semana en un intervalo [start, end) sin recorrer los días.</p>
+ * <p>Un intervalo de n días que inicia en el día de la semana s contiene \(\left\lfloor n/7 \right\rfloor\) semanas
+ * completas y un resto de \(n \bmod 7\) días consecutivos desde s. Los días del resto se representan con una máscara
+ * rotada, así el conteo de cualquier conjunto de días (ver DayOfWeek.mask) es:</p>
+ *  <pre><code class="language-java">
+ *      (n / 7) * Integer.bitCount(mask) + Integer.bitCount(mask &amp; rotate((1 &lt;&lt; n % 7) - 1, s))
+ *  </code></pre>
+ * <p>La cantidad de días se obtiene con Date.daysUntil y el día inicial con getDayOfWeek, por lo que el costo
+ * es constante y funciona para cualquier año.</p>
+ */
+public final class Weekdays {
+
+    private static final int DAYS_IN_WEEK = DayOfWeek.daysInWeek();
+    private static final int ALL_DAYS     = (1 << DAYS_IN_WEEK) - 1;
+
+    private Weekdays() {
+    }
+
+    /**
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @param day Día de la semana.
+     * @return Cantidad de veces que ocurre el día, negativo si la fecha final es anterior a la inicial.
+     */
+    public static long count(final Date start, final Date end, final DayOfWeek day) {
+        return count(start, end, day.mask());
+    }
+
+    /**
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @param mask Máscara con los días de la semana.
+     * @return Cantidad de días del intervalo que están en la máscara, negativo si la fecha final es anterior
+     * a la inicial.
+     */
+    public static long count(final Date start, final Date end, final int mask) {
+        return count(start.getDayOfWeek(), start.daysUntil(end), mask);
+    }
+
+    /**
+     * @param start Fecha inicial (inclusiva).
+     * @param end Fecha final (exclusiva).
+     * @return Cantidad de veces que ocurre cada día de la semana, indexado por DayOfWeek.ordinal().
+     */
+    public static long[] countAll(final Date start, final Date end) {
+        final DayOfWeek first = start.getDayOfWeek();
+        final long days       = start.daysUntil(end);
+        final long[] counts   = new long[DAYS_IN_WEEK];
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            counts[day] = count(first, days, 1 << day);
+        }
+        return counts;
+    }
+
+    /**
+     * <p>Cuenta sobre un intervalo de days días que inicia en el día de la semana start. Si days es negativo
+     * el intervalo es el de los -days días anteriores y el resultado es negativo.</p>
+     * @param start Día de la semana del primer día.
+     * @param days Cantidad de días del intervalo.
+     * @param mask Máscara con los días de la semana.
+     * @return Cantidad de días del intervalo que están en la máscara.
+     * @throws IllegalArgumentException Si la máscara tiene bits fuera de la semana.
+     */
+    public static long count(final DayOfWeek start, final long days, final int mask) {
+        if ((mask & ~ALL_DAYS) != 0) {
+            throw new IllegalArgumentException("Invalid mask");
+        }
+        if (days < 0) {
+            final int first = (int) Math.floorMod(start.ordinal() + days, (long) DAYS_IN_WEEK);
+            return -count(first, -days, mask);
+        }
+        return count(start.ordinal(), days, mask);
+    }
+
+    /**
+     * @param start Índice del día de la semana del primer día.
+     * @param days Cantidad de días, no negativa.
+     * @param mask Máscara con los días de la semana.
+     * @return Cantidad de días del intervalo que están en la máscara.
+     */
+    private static long count(final int start, final long days, final int mask) {
+        final int remainder = (int) (days % DAYS_IN_WEEK);
+        final int window    = ((1 << remainder) - 1) << start;
+        final int rotated   = (window | window >>> DAYS_IN_WEEK) & ALL_DAYS;
+        return days / DAYS_IN_WEEK * Integer.bitCount(mask)
+                + Integer.bitCount(mask & rotated);
+    }
+}
@@ -0,0 +1,159 @@
+package com.cenfotec.proyectoqa.api;
+
+/**
+ * <p>YearTable es una tabla precalculada con los datos de cada año dentro de un rango:
+ * si el año es bisiesto, el día de la semana del primero de enero y el día época del primero de enero.</p>
+ * <p>GregorianDate consulta la tabla compartida para los años dentro del rango y utiliza la aritmética
+ * para los demás, así el día de la semana se obtiene con una suma y un módulo en lugar de varias
+ * divisiones.</p>
+ * <p>El rango de la tabla compartida se configura con las propiedades del sistema proyectoqa.yearTable.minYear
+ * (1583 por defecto) y proyectoqa.yearTable.maxYear (2582 por defecto). Si maxYear es menor que minYear la tabla
+ * queda vacía y GregorianDate solo utiliza la aritmética.</p>
+ */
+public final class YearTable {
+
+    private static final long FIRST_YEAR        = 1583;
+    private static final long DEFAULT_MAX_YEAR  = 2582;
+    private static final int DAYS_IN_YEAR_NO_LEAP = 365;
+
+    /**
+     * <p>Cantidad máxima de años en una tabla.</p>
+     */
+    private static final long MAX_SIZE = 1 << 24;
+
+    /**
+     * <p>El bit que indica que el año es bisiesto, los 3 bits menores guardan el día de la semana.</p>
+     */
+    private static final int LEAP_FLAG = 1 << 3;
+    private static final int DAY_OF_WEEK_MASK = LEAP_FLAG - 1;
+
+    private final long minYear;
+    private final long maxYear;
+    private final long[] firstEpochDays;
+    private final byte[] flags;
+
+    /**
+     * <p>Inicialización perezosa de la tabla compartida.</p>
+     */
+    private static final class Shared {
+        private static final YearTable INSTANCE = new YearTable(
+                Long.getLong("proyectoqa.yearTable.minYear", FIRST_YEAR),
+                Long.getLong("proyectoqa.yearTable.maxYear", DEFAULT_MAX_YEAR));
+    }
+
+    /**
+     * <p>Calcula la tabla empezando por el primero de enero de minYear y sumando los días de cada año.</p>
+     * @param minYear Primer año de la tabla.
+     * @param maxYear Último año de la tabla, puede ser minYear - 1 para crear una tabla vacía.
+     * @throws IllegalArgumentException Si el rango es inválido.
+     */
+    public YearTable(final long minYear, final long maxYear) {
+        if (!GregorianDate.checkYear(minYear)
+                || maxYear > PackedDates.MAX_YEAR
+                || maxYear < minYear - 1
+                || maxYear - minYear >= MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid year range");
+        }
+        final int size      = (int) (maxYear - minYear + 1);
+        this.minYear        = minYear;
+        this.maxYear        = maxYear;
+        this.firstEpochDays = new long[size];
+        this.flags          = new byte[size];
+
+        long epochDay = size == 0 ? 0 : PackedDates.toEpochDay(
+                PackedDates.pack(minYear, Month.JANUARY.toNumber(), 1));
+        for (int i = 0; i < size; i++) {
+            final boolean leap = GregorianDate.isLeap(minYear + i);
+            final int dayOfWeek = DayOfWeek.ofEpochDay(epochDay).ordinal();
+            firstEpochDays[i] = epochDay;
+            flags[i]          = (byte) (dayOfWeek | (leap ? LEAP_FLAG : 0));
+            epochDay += DAYS_IN_YEAR_NO_LEAP + (leap ? 1 : 0);
+        }
+    }
+
+    /**
+     * @return La tabla compartida que consulta GregorianDate.
+     */
+    public static YearTable shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @return Primer año de la tabla.
+     */
+    public long getMinYear() {
+        return minYear;
+    }
+
+    /**
+     * @return Último año de la tabla.
+     */
+    public long getMaxYear() {
+        return maxYear;
+    }
+
+    /**
+     * @param year Año
+     * @return Si el año está dentro de la tabla.
+     */
+    public boolean contains(final long year) {
+        return minYear <= year && year <= maxYear;
+    }
+
+    /**
+     * <p>Tiene como precondición que el año esté dentro de la tabla.</p>
+     * @param year Año
+     * @return Si el año es bisiesto.
+     */
+    public boolean isLeapYear(final long year) {
+        return (flags[index(year)] & LEAP_FLAG) != 0;
+    }
+
+    /**
+     * <p>Tiene como precondición que el año esté dentro de la tabla.</p>
+     * @param year Año
+     * @return Día de la semana del primero de enero.
+     */
+    public DayOfWeek firstDayOfWeek(final long year) {
+        return DayOfWeek.ofIndex(flags[index(year)] & DAY_OF_WEEK_MASK);
+    }
+
+    /**
+     * <p>Tiene como precondición que el año esté dentro de la tabla.</p>
+     * @param year Año
+     * @return Día época del primero de enero.
+     */
+    public long firstEpochDay(final long year) {
+        return firstEpochDays[index(year)];
+    }
+
+    /**
+     * <p>Calcula el día de la semana sumando los días del año al día de la semana del primero de enero.
+     * Tiene como precondición que el año esté dentro de la tabla.</p>
+     * @param year Año
+     * @param yearDays Días del año. \(1\leq dias \leq 366\)
+     * @return Día de la semana.
+     */
+    public DayOfWeek dayOfWeek(final long year, final int yearDays) {
+        final int firstDay = flags[index(year)] & DAY_OF_WEEK_MASK;
+        return DayOfWeek.ofIndex((firstDay + yearDays - 1) % DayOfWeek.daysInWeek());
+    }
+
+    /**
+     * <p>Tiene como precondición que el año esté dentro de la tabla.</p>
+     * @param year Año
+     * @param yearDays Días del año. \(1\leq dias \leq 366\)
+     * @return Día época.
+     */
+    public long epochDay(final long year, final int yearDays) {
+        return firstEpochDays[index(year)] + yearDays - 1;
+    }
+
+    /**
+     * @param year Año
+     * @return Posición del año en la tabla.
+     */
+    private int index(final long year) {
+        return (int) (year - minYear);
+    }
+}
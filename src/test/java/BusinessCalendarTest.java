@@ -0,0 +1,100 @@
+import com.cenfotec.proyectoqa.api.BusinessCalendar;
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>Pruebas para el calendario de días hábiles.</p>
+ */
+public class BusinessCalendarTest {
+
+    private static final long SEED = 7;
+
+    /**
+     * <p>Verifica un caso conocido con feriados en día laboral y en fin de semana.</p>
+     */
+    @Test
+    void knownDatesTest() {
+        final BusinessCalendar calendar = BusinessCalendar.saturdayAndSunday(
+                Date.of(2024, Month.DECEMBER, 25),
+                Date.of(2024, Month.DECEMBER, 28),
+                Date.of(2025, Month.JANUARY, 1));
+        final Date friday = Date.of(2024, Month.DECEMBER, 20);
+
+        Assertions.assertEquals(Date.of(2024, Month.DECEMBER, 23), calendar.addBusinessDays(friday, 1));
+        Assertions.assertEquals(Date.of(2024, Month.DECEMBER, 26), calendar.addBusinessDays(friday, 3));
+        Assertions.assertEquals(Date.of(2025, Month.JANUARY, 2), calendar.addBusinessDays(friday, 7));
+        Assertions.assertEquals(friday, calendar.addBusinessDays(Date.of(2024, Month.DECEMBER, 23), -1));
+        Assertions.assertEquals(friday, calendar.addBusinessDays(Date.of(2024, Month.DECEMBER, 22), -1));
+        Assertions.assertEquals(7, calendar.businessDaysBetween(friday, Date.of(2025, Month.JANUARY, 2)));
+        Assertions.assertEquals(-7, calendar.businessDaysBetween(Date.of(2025, Month.JANUARY, 2), friday));
+        Assertions.assertFalse(calendar.isBusinessDay(Date.of(2024, Month.DECEMBER, 25)));
+        Assertions.assertTrue(calendar.isBusinessDay(Date.of(2024, Month.DECEMBER, 24)));
+    }
+
+    /**
+     * <p>Compara contra un recorrido día por día con feriados aleatorios y distintos fines de semana.</p>
+     * @param weekendMask Máscara del fin de semana.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 0b1000001, 0b0110000, 0b0111111})
+    void matchesDayByDayTest(int weekendMask) {
+        final Random random      = new Random(SEED + weekendMask);
+        final List<Date> holidays = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            holidays.add(GregorianDate.ofEpochDay(random.nextInt(3000) - 1500));
+        }
+        final BusinessCalendar calendar = new BusinessCalendar(weekendMask, holidays);
+
+        for (int i = 0; i < 300; i++) {
+            final Date start = GregorianDate.ofEpochDay(random.nextInt(3000) - 1500);
+            final long days  = random.nextInt(81) - 40;
+            Date expected = start;
+            for (long remaining = Math.abs(days); remaining > 0; ) {
+                expected = expected.addDays(days > 0 ? 1 : -1);
+                if (!isHoliday(expected, holidays, weekendMask)) {
+                    remaining--;
+                }
+            }
+            Assertions.assertEquals(expected, calendar.addBusinessDays(start, days));
+
+            long between = 0;
+            for (Date date = start; !date.equals(expected) && days > 0; date = date.nextDay()) {
+                between += isHoliday(date, holidays, weekendMask) ? 0 : 1;
+            }
+            if (days > 0) {
+                Assertions.assertEquals(between, calendar.businessDaysBetween(start, expected));
+            }
+        }
+    }
+
+    /**
+     * <p>Verifica que se rechacen las máscaras inválidas.</p>
+     */
+    @Test
+    void invalidMaskTest() {
+        final List<Date> none = new ArrayList<>();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(0b1111111, none));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BusinessCalendar(1 << 7, none));
+        Assertions.assertEquals(0b1000001, DayOfWeek.mask(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+    }
+
+    /**
+     * @param date Fecha.
+     * @param holidays Feriados.
+     * @param weekendMask Máscara del fin de semana.
+     * @return Si la fecha no es hábil según un recorrido lineal de los feriados.
+     */
+    private static boolean isHoliday(Date date, List<Date> holidays, int weekendMask) {
+        return (weekendMask & date.getDayOfWeek().mask()) != 0 || holidays.contains(date);
+    }
+}
@@ -0,0 +1,94 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateBatch;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Pruebas para las operaciones de fechas en paralelo.</p>
+ */
+public class DateBatchTest {
+
+    private static final GregorianDate[] DATES = DateRange.of(Date.of(1900, Month.JANUARY, 1),
+            Date.of(2100, Month.JANUARY, 1)).stream().toArray(GregorianDate[]::new);
+
+    /**
+     * <p>Verifica que todos los ejecutores den los mismos resultados que el cálculo secuencial.</p>
+     */
+    @Test
+    void executorsTest() {
+        final ForkJoinPool pool    = new ForkJoinPool(3);
+        final ExecutorService fixed = Executors.newFixedThreadPool(2);
+        try {
+            final DateBatch[] batches = {
+                    DateBatch.common(),
+                    DateBatch.of(pool),
+                    DateBatch.of(fixed, 2),
+                    DateBatch.virtualThreads()
+            };
+            final DayOfWeek[] days     = new DayOfWeek[DATES.length];
+            final GregorianDate[] next = new GregorianDate[DATES.length];
+            final long[] epochDays     = new long[DATES.length];
+            for (int i = 0; i < DATES.length; i++) {
+                days[i]      = DATES[i].getDayOfWeek();
+                next[i]      = DATES[i].addDays(45);
+                epochDays[i] = DATES[i].toEpochDay();
+            }
+
+            for (DateBatch batch : batches) {
+                Assertions.assertArrayEquals(days, batch.getDayOfWeek(DATES));
+                Assertions.assertArrayEquals(next, batch.addDays(DATES, 45));
+                Assertions.assertArrayEquals(epochDays, batch.mapToLong(DATES, Date::toEpochDay));
+                Assertions.assertEquals(Arrays.asList(days), batch.map(Arrays.asList(DATES), Date::getDayOfWeek));
+            }
+        } finally {
+            pool.shutdown();
+            fixed.shutdown();
+        }
+    }
+
+    /**
+     * <p>Verifica la validación por columnas y los arreglos pequeños.</p>
+     */
+    @Test
+    void validateTest() {
+        final int size      = 10000;
+        final long[] years  = new long[size];
+        final int[] months  = new int[size];
+        final int[] days    = new int[size];
+        for (int i = 0; i < size; i++) {
+            years[i]  = 1500 + i % 700;
+            months[i] = i % 14;
+            days[i]   = i % 32;
+        }
+        final boolean[] valid = DateBatch.common().isValid(years, months, days);
+        for (int i = 0; i < size; i++) {
+            Assertions.assertEquals(years[i] > 1582 && months[i] >= 1 && months[i] <= 12 && days[i] >= 1
+                    && days[i] <= YearMonth.of((int) years[i], months[i]).lengthOfMonth(), valid[i]);
+        }
+
+        final List<Integer> small = DateBatch.common().map(Arrays.asList(DATES[0], DATES[1]), Date::getDay);
+        Assertions.assertEquals(Arrays.asList(1, 2), small);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DateBatch.common().isValid(years, months, new int[1]));
+    }
+
+    /**
+     * <p>Verifica que las excepciones de los bloques lleguen al hilo que llama.</p>
+     */
+    @Test
+    void exceptionTest() {
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> DateBatch.common().mapToInt(DATES, date -> date.getDay() / (date.getYear() == 2050 ? 0 : 1)));
+    }
+}
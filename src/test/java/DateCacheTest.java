@@ -0,0 +1,73 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateCache;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <p>Pruebas para la caché de fechas.</p>
+ */
+public class DateCacheTest {
+
+    /**
+     * <p>Verifica que las fechas dentro y fuera de la ventana sean canónicas.</p>
+     */
+    @Test
+    void canonicalInstanceTest() {
+        final DateCache cache = new DateCache(2000, 2001, 1);
+
+        Assertions.assertSame(cache.get(2000, Month.FEBRUARY, 29),
+                cache.get(2000, 2, 29));
+        Assertions.assertSame(cache.get(1724, Month.FEBRUARY, 29),
+                cache.get(1724, Month.FEBRUARY, 29));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertSame(Date.of(2018, Month.MAY, 27),
+                GregorianDate.of(2018, 5, 27));
+    }
+
+    /**
+     * <p>Verifica que la caché no crezca después de la cantidad máxima de entradas y que una fecha nueva
+     * desaloje a la anterior.</p>
+     */
+    @Test
+    void maxEntriesTest() {
+        final DateCache cache = new DateCache(2000, 2000, 1);
+        final GregorianDate first = cache.get(1900, Month.JANUARY, 1);
+        final GregorianDate other = cache.get(1900, Month.JANUARY, 2);
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertSame(other, cache.get(1900, Month.JANUARY, 2));
+        Assertions.assertEquals(first, cache.get(1900, Month.JANUARY, 1));
+        Assertions.assertNotSame(first, cache.get(1900, Month.JANUARY, 1));
+        Assertions.assertNotSame(other, cache.get(1900, Month.JANUARY, 2));
+
+        final DateCache large = new DateCache(2000, 2000, 100);
+        for (int day = 1; day <= 31; day++) {
+            Assertions.assertEquals(day, large.get(1800, Month.JANUARY, day).getDay());
+        }
+        Assertions.assertTrue(large.size() <= 64);
+        Assertions.assertEquals(0, new DateCache(2000, 2000, 0).size());
+    }
+
+    /**
+     * <p>Verifica que las fechas inválidas se sigan rechazando dentro y fuera de la ventana.</p>
+     */
+    @Test
+    void invalidDateTest() {
+        final DateCache cache = new DateCache(2000, 2001, 1);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(2001, Month.FEBRUARY, 29));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(2000, Month.APRIL, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(1582, Month.APRIL, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(2000, null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.get(2000, 13, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DateCache(2001, 2000, 1));
+    }
+}
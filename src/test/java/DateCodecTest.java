@@ -0,0 +1,130 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateCodec;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Pruebas para la serialización binaria de fechas.</p>
+ */
+public class DateCodecTest {
+
+    private static final Date[] DATES = {
+            Date.of(1583, Month.JANUARY, 1),
+            Date.of(1969, Month.DECEMBER, 31),
+            Date.of(1970, Month.JANUARY, 1),
+            Date.of(2000, Month.FEBRUARY, 29),
+            Date.of(2024, Month.JULY, 15),
+            Date.of(5881580, Month.JULY, 11),
+            Date.of(Long.MAX_VALUE / 1000, Month.DECEMBER, 31)
+    };
+
+    /**
+     * <p>Verifica que los formatos fijo y varint se lean igual en DataOutput y ByteBuffer.</p>
+     */
+    @Test
+    void roundTripTest() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out        = new DataOutputStream(bytes);
+        final ByteBuffer buffer           = ByteBuffer.allocate(DATES.length * DateCodec.MAX_VARINT_BYTES);
+        for (Date date : DATES) {
+            DateCodec.writeVarint(out, date);
+            DateCodec.putVarint(buffer, date);
+        }
+        DateCodec.writeFixed(out, DATES[3]);
+        out.flush();
+        buffer.flip();
+
+        Assertions.assertArrayEquals(Arrays.copyOf(buffer.array(), buffer.limit()),
+                Arrays.copyOf(bytes.toByteArray(), buffer.limit()));
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Date date : DATES) {
+            Assertions.assertEquals(date, DateCodec.readVarint(in));
+            Assertions.assertEquals(date, DateCodec.getVarint(buffer));
+        }
+        Assertions.assertEquals(DATES[3], DateCodec.readFixed(in));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * <p>Verifica los tamaños del formato varint y los límites del formato fijo.</p>
+     */
+    @Test
+    void sizeTest() {
+        Assertions.assertEquals(1, DateCodec.varintSize(Date.of(1970, Month.JANUARY, 1)));
+        Assertions.assertEquals(3, DateCodec.varintSize(Date.of(2024, Month.JULY, 15)));
+        Assertions.assertEquals(9, DateCodec.varintSize(DATES[DATES.length - 1]));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(DateCodec.FIXED_BYTES);
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> DateCodec.putFixed(buffer, Date.of(5881580, Month.JULY, 12)));
+        DateCodec.putFixed(buffer, DATES[5]);
+        buffer.flip();
+        Assertions.assertEquals(Integer.MAX_VALUE, buffer.getInt(0));
+        Assertions.assertEquals(DATES[5], DateCodec.getFixed(buffer));
+    }
+
+    /**
+     * <p>Verifica la codificación masiva con diferencias de fechas consecutivas.</p>
+     */
+    @Test
+    void bulkTest() {
+        final List<GregorianDate> dates = DateRange.of(Date.of(2023, Month.DECEMBER, 1), Date.of(2024, Month.MARCH, 1))
+                .stream().collect(Collectors.toList());
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        DateCodec.encode(buffer, dates);
+        Assertions.assertEquals(1 + 3 + dates.size() - 1, buffer.position());
+        buffer.flip();
+        Assertions.assertEquals(dates, DateCodec.decode(buffer));
+
+        buffer.clear();
+        DateCodec.encode(buffer, DATES);
+        DateCodec.putFixed(buffer, Arrays.copyOf(DATES, DATES.length - 1));
+        buffer.flip();
+        Assertions.assertArrayEquals(DATES, DateCodec.decodeArray(buffer));
+        Assertions.assertArrayEquals(Arrays.copyOf(DATES, DATES.length - 1),
+                DateCodec.getFixed(buffer, DATES.length - 1));
+
+        final ByteBuffer small = ByteBuffer.allocate(DateCodec.FIXED_BYTES);
+        Assertions.assertThrows(BufferOverflowException.class, () -> DateCodec.putFixed(small, DATES));
+        Assertions.assertEquals(0, small.position());
+        ((Buffer) small).position(1);
+        Assertions.assertThrows(BufferOverflowException.class, () -> DateCodec.encode(small, dates));
+        Assertions.assertEquals(1, small.position());
+    }
+
+    /**
+     * <p>Verifica que los datos inválidos se rechacen.</p>
+     */
+    @Test
+    void malformedTest() {
+        final byte[] continuation = new byte[DateCodec.MAX_VARINT_BYTES];
+        Arrays.fill(continuation, (byte) 0x80);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DateCodec.getVarint(ByteBuffer.wrap(continuation)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DateCodec.decodeArray(ByteBuffer.wrap(new byte[] {5, 0})));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DateCodec.getFixed(ByteBuffer.allocate(DateCodec.FIXED_BYTES).putInt(0, -200000)));
+
+        final byte[] maxDelta = {-2, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+        final ByteBuffer overflow = ByteBuffer.allocate(1 + 2 * maxDelta.length);
+        overflow.put((byte) 2).put(maxDelta).put(maxDelta);
+        ((Buffer) overflow).flip();
+        Assertions.assertThrows(ArithmeticException.class, () -> DateCodec.decodeArray(overflow));
+    }
+}
@@ -0,0 +1,95 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateColumn;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * <p>Pruebas para la columna de fechas.</p>
+ */
+public class DateColumnTest {
+
+    private static final Date[] DATES = {
+            Date.of(1583, Month.JANUARY, 1),
+            Date.of(1724, Month.FEBRUARY, 29),
+            Date.of(2000, Month.DECEMBER, 15),
+            Date.of(2018, Month.MAY, 27)
+    };
+
+    /**
+     * <p>Crea una columna con las fechas de prueba.</p>
+     * @param offHeap Si la columna debe estar fuera del heap.
+     * @return Columna con las fechas de prueba.
+     */
+    private static DateColumn column(boolean offHeap) {
+        final DateColumn column = offHeap
+                ? DateColumn.offHeap(DATES.length)
+                : DateColumn.onHeap(DATES.length);
+        for (int i = 0; i < DATES.length; i++) {
+            column.set(i, DATES[i]);
+        }
+        return column;
+    }
+
+    /**
+     * <p>Verifica que las operaciones masivas coincidan con las operaciones de cada fecha.</p>
+     * @param offHeap Si la columna debe estar fuera del heap.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void bulkOperationsTest(boolean offHeap) {
+        final DateColumn column = column(offHeap);
+        final int[] daysOfWeek  = column.daysOfWeek();
+        final long[] years      = column.years();
+        final int[] months      = column.months();
+        final int[] days        = column.days();
+
+        Assertions.assertEquals(offHeap, column.isOffHeap());
+        for (int i = 0; i < DATES.length; i++) {
+            Assertions.assertEquals(DATES[i], column.get(i));
+            Assertions.assertEquals(DATES[i].getDayOfWeek().ordinal(), daysOfWeek[i]);
+            Assertions.assertEquals(DATES[i].getYear(), years[i]);
+            Assertions.assertEquals(DATES[i].getMonth().toNumber(), months[i]);
+            Assertions.assertEquals(DATES[i].getDay(), days[i]);
+        }
+    }
+
+    /**
+     * <p>Verifica el desplazamiento de todas las fechas y sus valores límite.</p>
+     * @param offHeap Si la columna debe estar fuera del heap.
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shiftTest(boolean offHeap) {
+        final long offset       = 2110;
+        final DateColumn column = column(offHeap);
+        final DateColumn result = column.shift(offset);
+
+        Assertions.assertEquals(offHeap, result.isOffHeap());
+        for (int i = 0; i < DATES.length; i++) {
+            Assertions.assertEquals(DATES[i].addDays(offset), result.get(i));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> column.shift(-1));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> column.shift(Integer.MAX_VALUE));
+    }
+
+    /**
+     * <p>Verifica que el filtro conserve el orden de las fechas seleccionadas.</p>
+     */
+    @Test
+    void filterTest() {
+        final DateColumn column = DateColumn.of(DATES);
+        final int limit         = (int) DATES[1].toEpochDay();
+        final DateColumn result = column.filter(epochDay -> epochDay >= limit);
+
+        Assertions.assertEquals(DATES.length - 1, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            Assertions.assertEquals(DATES[i + 1], result.get(i));
+        }
+        Assertions.assertEquals(0, column.filter(epochDay -> false).size());
+    }
+}
@@ -0,0 +1,67 @@
+import com.cenfotec.proyectoqa.api.DateFormatter;
+import com.cenfotec.proyectoqa.api.DateParser;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Pruebas para el formateador de fechas.</p>
+ */
+public class DateFormatterTest {
+
+    /**
+     * <p>Verifica que toString conserve la salida de String.format y que todas las variantes coincidan.</p>
+     * @param year Año de prueba.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1583, 2024, 99999, 1_000_000_000_000L, Long.MAX_VALUE})
+    void formatTest(long year) {
+        final GregorianDate date = new GregorianDate(year, Month.DECEMBER, 7);
+        final String tuple = String.format("(%04d, %02d, %02d)", year, 12, 7);
+        final String iso   = String.format("%04d-%02d-%02d", year, 12, 7);
+
+        Assertions.assertEquals(tuple, date.toString());
+        Assertions.assertEquals(tuple, date.formatTo(new StringBuilder()).toString());
+        Assertions.assertEquals(iso, date.formatIsoTo(new StringBuilder()).toString());
+        Assertions.assertEquals(tuple.length(), DateFormatter.tupleLength(year));
+        Assertions.assertEquals(iso.length(), DateFormatter.isoLength(year));
+
+        final byte[] bytes = new byte[tuple.length() + 3];
+        Assertions.assertEquals(tuple.length() + 1, date.formatTo(bytes, 1));
+        Assertions.assertEquals(tuple, new String(bytes, 1, tuple.length(), StandardCharsets.US_ASCII));
+        Assertions.assertEquals(iso.length() + 2, date.formatIsoTo(bytes, 2));
+        Assertions.assertEquals(iso, new String(bytes, 2, iso.length(), StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * <p>Verifica que el texto formateado se pueda volver a interpretar.</p>
+     */
+    @Test
+    void roundTripTest() {
+        final GregorianDate date = new GregorianDate(2000, Month.FEBRUARY, 29);
+        final byte[] bytes = new byte[DateFormatter.isoLength(2000)];
+        date.formatIsoTo(bytes, 0);
+
+        Assertions.assertEquals(PackedDates.of(date), DateParser.parse(bytes, 0, bytes.length));
+        Assertions.assertEquals(date, GregorianDate.parse(date.toString()));
+    }
+
+    /**
+     * <p>Verifica que no se escriba fuera del arreglo.</p>
+     */
+    @Test
+    void outOfBoundsTest() {
+        final GregorianDate date = new GregorianDate(2000, Month.FEBRUARY, 29);
+        final byte[] bytes = new byte[DateFormatter.isoLength(2000)];
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> date.formatIsoTo(bytes, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> date.formatTo(bytes, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> date.formatIsoTo(bytes, -1));
+    }
+}
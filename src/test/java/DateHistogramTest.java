@@ -0,0 +1,89 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateHistogram;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.Weekdays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+/**
+ * <p>Pruebas para el histograma concurrente de fechas.</p>
+ */
+public class DateHistogramTest {
+
+    private static final DateRange RANGE = DateRange.of(Date.of(2000, Month.JANUARY, 1),
+            Date.of(2010, Month.JANUARY, 1));
+
+    /**
+     * <p>Verifica los conteos por día de la semana registrando desde varios hilos.</p>
+     */
+    @Test
+    void dayOfWeekTest() {
+        final DateHistogram histogram = DateHistogram.byDayOfWeek();
+        IntStream.range(0, 4).parallel().forEach(i -> RANGE.parallelStream().forEach(histogram::record));
+
+        final long[] expected = Weekdays.countAll(RANGE.getStart(), RANGE.getEnd());
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] *= 4;
+        }
+        Assertions.assertArrayEquals(expected, histogram.counts());
+        Assertions.assertEquals(expected[DayOfWeek.MONDAY.ordinal()], histogram.count(DayOfWeek.MONDAY.ordinal()));
+        Assertions.assertEquals(4 * RANGE.size(), histogram.total());
+        Assertions.assertEquals(0, histogram.outOfRange());
+    }
+
+    /**
+     * <p>Verifica los histogramas por mes, año y día época, incluyendo las fechas fuera de rango.</p>
+     */
+    @Test
+    void rangeTest() {
+        final DateHistogram months = DateHistogram.byMonth();
+        final DateHistogram years  = DateHistogram.byYear(2005, 2020);
+        final DateHistogram days   = DateHistogram.byEpochDay(DateRange.of(Date.of(2008, Month.FEBRUARY, 1),
+                Date.of(2008, Month.MARCH, 1)));
+        for (GregorianDate date : RANGE) {
+            months.record(date);
+            years.record(date);
+            days.record(date, 2);
+        }
+
+        Assertions.assertEquals(12, months.buckets());
+        Assertions.assertEquals(10 * 28 + 3, months.count(Month.FEBRUARY.ordinal()));
+        Assertions.assertEquals(366, years.count(Date.of(2008, Month.MAY, 5)));
+        Assertions.assertEquals(0, years.count(2010 - 2005));
+        Assertions.assertEquals(5 * 365 + 2, years.outOfRange());
+        Assertions.assertEquals(29, days.buckets());
+        Assertions.assertEquals(2, days.count(28));
+        Assertions.assertEquals(2 * (RANGE.size() - 29), days.outOfRange());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> days.count(29));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DateHistogram.byYear(2020, 2019));
+    }
+
+    /**
+     * <p>Verifica que no se pierdan registros con muchos hilos de vida corta que comparten los arreglos de
+     * contadores.</p>
+     */
+    @Test
+    void threadChurnTest() throws InterruptedException {
+        final DateHistogram histogram = DateHistogram.byMonth();
+        final Date date               = Date.of(2024, Month.MAY, 1);
+        final Thread[] threads        = new Thread[500];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    histogram.record(date);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(500 * 1000, histogram.count(Month.MAY.ordinal()));
+        Assertions.assertEquals(500 * 1000, histogram.total());
+    }
+}
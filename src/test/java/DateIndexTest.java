@@ -0,0 +1,81 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateIndex;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+/**
+ * <p>Pruebas para el índice de fechas mapeado en memoria.</p>
+ */
+public class DateIndexTest {
+
+    private static final int RECORDS_PER_DAY = 3;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * <p>Verifica las consultas por rango sobre un índice con varias entradas por día, incluyendo un lote parcial.</p>
+     */
+    @Test
+    void rangeQueryTest() throws IOException {
+        final Path path       = directory.resolve("dates.idx");
+        final DateRange range = DateRange.of(Date.of(2020, Month.JANUARY, 1), Date.of(2024, Month.JANUARY, 1));
+        try (DateIndex.Writer writer = DateIndex.writer(path)) {
+            long offset = 0;
+            for (Date date : range) {
+                for (int i = 0; i < RECORDS_PER_DAY; i++) {
+                    writer.add(date, offset++);
+                }
+            }
+        }
+
+        try (DateIndex index = DateIndex.open(path)) {
+            Assertions.assertEquals(range.size() * RECORDS_PER_DAY, index.size());
+            Assertions.assertEquals(range.getStart().toEpochDay(), index.epochDay(0));
+
+            final Date from = Date.of(2020, Month.FEBRUARY, 28);
+            final Date to   = Date.of(2020, Month.MARCH, 2);
+            final long first = (from.toEpochDay() - range.getStart().toEpochDay()) * RECORDS_PER_DAY;
+            Assertions.assertArrayEquals(LongStream.range(first, first + 3 * RECORDS_PER_DAY).toArray(),
+                    index.offsets(from, to).toArray());
+            Assertions.assertEquals(RECORDS_PER_DAY * 31L,
+                    index.offsets(DateRange.of(Date.of(2023, Month.DECEMBER, 1), Date.of(2030, Month.JANUARY, 1)))
+                            .count());
+            Assertions.assertEquals(0, index.offsets(Date.of(1999, Month.JANUARY, 1),
+                    Date.of(2020, Month.JANUARY, 1)).count());
+            Assertions.assertEquals(0, index.offsets(to, from).count());
+            Assertions.assertEquals(index.size(), index.lowerBound(Long.MAX_VALUE));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> index.offset(index.size()));
+        }
+    }
+
+    /**
+     * <p>Verifica que se rechacen las entradas desordenadas y los archivos incompletos.</p>
+     */
+    @Test
+    void invalidTest() throws IOException {
+        final Path path = directory.resolve("unsorted.idx");
+        try (DateIndex.Writer writer = DateIndex.writer(path)) {
+            writer.add(Date.of(2020, Month.MAY, 2), 0);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> writer.add(Date.of(2020, Month.MAY, 1), 1));
+            Assertions.assertEquals(1, writer.size());
+        }
+        try (DateIndex index = DateIndex.open(path)) {
+            Assertions.assertEquals(1, index.size());
+        }
+
+        Files.write(path, new byte[] {1, 2, 3});
+        Assertions.assertThrows(IOException.class, () -> DateIndex.open(path));
+        DateIndex.writer(path).add(0, 0);
+        Assertions.assertThrows(IOException.class, () -> DateIndex.open(path));
+    }
+}
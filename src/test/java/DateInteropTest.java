@@ -0,0 +1,56 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateInterop;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * <p>Pruebas para las conversiones con java.time y java.sql.</p>
+ */
+public class DateInteropTest {
+
+    /**
+     * <p>Verifica las conversiones de una fecha contra el texto ISO-8601 de ambas clases.</p>
+     */
+    @Test
+    void singleTest() {
+        for (GregorianDate date : DateRange.of(Date.of(1583, Month.JANUARY, 1), Date.of(1590, Month.JANUARY, 1))) {
+            final LocalDate local = date.toLocalDate();
+            Assertions.assertEquals(date.formatIsoTo(new StringBuilder()).toString(), local.toString());
+            Assertions.assertEquals(date.toEpochDay(), local.toEpochDay());
+            Assertions.assertEquals(date, GregorianDate.from(local));
+            Assertions.assertEquals(local, DateInterop.toSqlDate(date).toLocalDate());
+            Assertions.assertEquals(date, DateInterop.fromSqlDate(java.sql.Date.valueOf(local)));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GregorianDate.from(LocalDate.of(1582, 12, 31)));
+        Assertions.assertThrows(DateTimeException.class,
+                () -> GregorianDate.of(1_000_000_000L, Month.JANUARY, 1).toLocalDate());
+    }
+
+    /**
+     * <p>Verifica las conversiones de arreglos, incluyendo los null.</p>
+     */
+    @Test
+    void bulkTest() {
+        final GregorianDate[] dates = DateRange.of(Date.of(1999, Month.DECEMBER, 1), Date.of(2000, Month.MARCH, 1))
+                .stream().toArray(GregorianDate[]::new);
+        final long[] epochDays      = DateInterop.toEpochDays(dates);
+        final LocalDate[] local     = DateInterop.toLocalDates(dates);
+
+        Assertions.assertArrayEquals(local, DateInterop.toLocalDates(epochDays));
+        Assertions.assertArrayEquals(dates, DateInterop.fromEpochDays(epochDays));
+        Assertions.assertArrayEquals(dates, DateInterop.fromLocalDates(local));
+        Assertions.assertArrayEquals(dates, DateInterop.fromSqlDates(DateInterop.toSqlDates(dates)));
+        Assertions.assertEquals(LocalDate.of(2000, 2, 29), local[local.length - 1]);
+
+        final Date[] withNull = {dates[0], null};
+        Assertions.assertArrayEquals(new LocalDate[] {local[0], null}, DateInterop.toLocalDates(withNull));
+        Assertions.assertArrayEquals(new java.sql.Date[] {java.sql.Date.valueOf(local[0]), null},
+                DateInterop.toSqlDates(withNull));
+    }
+}
@@ -0,0 +1,117 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateMetrics;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+
+/**
+ * <p>Pruebas para la instrumentación. La prueba con la instrumentación desactivada corre en la JVM de las pruebas,
+ * la prueba con la instrumentación activa corre en una JVM aparte.</p>
+ */
+public class DateMetricsTest {
+
+    /**
+     * <p>Verifica que sin la propiedad del sistema no se registre nada.</p>
+     */
+    @Test
+    void disabledTest() {
+        Assumptions.assumeFalse(DateMetrics.ENABLED);
+        Date.of(2000, Month.JANUARY, 1).addDays(1).getDayOfWeek();
+
+        for (DateMetrics.Operation operation : DateMetrics.Operation.values()) {
+            Assertions.assertEquals(0, DateMetrics.count(operation));
+            Assertions.assertEquals(Long.SIZE, DateMetrics.latencyHistogram(operation).length);
+        }
+        Assertions.assertEquals(0, DateMetrics.validationFailures());
+    }
+
+    /**
+     * <p>Verifica los contadores y el histograma de ciclos cuando la instrumentación está activa. Como ENABLED es
+     * una constante que se lee al cargar DateMetrics, la verificación corre en otra JVM con
+     * -Dproyectoqa.metrics=true.</p>
+     */
+    @Test
+    void enabledTest() throws IOException, InterruptedException, URISyntaxException {
+        final String classPath = location(DateMetrics.class) + File.pathSeparator + location(EnabledCheck.class);
+        final Process process  = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Dproyectoqa.metrics=true",
+                "-cp", classPath,
+                EnabledCheck.class.getName())
+                .redirectErrorStream(true)
+                .start();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer                = new byte[1024];
+        try (InputStream input = process.getInputStream()) {
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                output.write(buffer, 0, read);
+            }
+        }
+        Assertions.assertEquals(0, process.waitFor(), output.toString("UTF-8"));
+    }
+
+    /**
+     * @param type Clase.
+     * @return Directorio o jar de donde se cargó la clase.
+     */
+    private static String location(final Class<?> type) throws URISyntaxException {
+        return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    /**
+     * <p>Programa que corre en la JVM con la instrumentación activa, termina con código 1 si algún valor no es
+     * el esperado.</p>
+     */
+    public static final class EnabledCheck {
+
+        public static void main(String[] args) throws JMException {
+            DateMetrics.reset();
+            final Date date = new GregorianDate(2000, Month.JANUARY, 1);
+            date.addDays(146097L * 3);
+            date.getDayOfWeek();
+            try {
+                new GregorianDate(2001, Month.FEBRUARY, 29);
+                fail("invalid date accepted");
+            } catch (IllegalArgumentException e) {
+                check("validation failures", 1, DateMetrics.validationFailures());
+            }
+            check("enabled", 1, DateMetrics.ENABLED ? 1 : 0);
+            check("addDays", 1, DateMetrics.count(DateMetrics.Operation.ADD_DAYS));
+            check("getDayOfWeek", 1, DateMetrics.count(DateMetrics.Operation.DAY_OF_WEEK));
+            check("cycles", 1, DateMetrics.addDaysCycleHistogram()[2]);
+            check("mbean", 1, ManagementFactory.getPlatformMBeanServer()
+                    .isRegistered(new ObjectName(DateMetrics.OBJECT_NAME)) ? 1 : 0);
+        }
+
+        /**
+         * @param name Nombre del valor.
+         * @param expected Valor esperado.
+         * @param actual Valor obtenido.
+         */
+        private static void check(final String name, final long expected, final long actual) {
+            if (expected != actual) {
+                fail(name + ": expected " + expected + " but was " + actual);
+            }
+        }
+
+        /**
+         * @param message Mensaje de error.
+         */
+        private static void fail(final String message) {
+            System.err.println(message);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateParser;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Pruebas para el intérprete de fechas.</p>
+ */
+public class DateParserTest {
+
+    /**
+     * <p>Verifica que ambos formatos válidos se interpreten igual desde todas las fuentes.</p>
+     * @param text Texto con la fecha 1724-02-29.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"1724-02-29", "(1724, 02, 29)", "(1724,02,29)", "( 1724 ,\t02 , 29 )"})
+    void validFormatTest(String text) {
+        final long expected = PackedDates.of(1724, Month.FEBRUARY, 29);
+        final byte[] bytes  = ("xx" + text + "xx").getBytes(StandardCharsets.US_ASCII);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+
+        Assertions.assertEquals(expected, DateParser.parse(text));
+        Assertions.assertEquals(expected, DateParser.parse(bytes, 2, text.length()));
+        Assertions.assertEquals(expected, DateParser.parse(direct, 2, text.length()));
+        Assertions.assertEquals(Date.of(1724, Month.FEBRUARY, 29), GregorianDate.parse(text));
+    }
+
+    /**
+     * <p>Verifica que los textos inválidos retornen el valor reservado sin lanzar excepciones.</p>
+     * @param text Texto inválido.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1721-02-29", "1582-01-01", "172-01-01", "1724-2-29", "1724/02/29",
+            "1724-02-29 ", "(1724, 02, 29", "1724, 02, 29)", "(1724-02-29)", "2000-13-01", "2000-00-01",
+            "12345678901234567890-01-01", "abcd-01-01"})
+    void invalidFormatTest(String text) {
+        Assertions.assertEquals(PackedDates.INVALID, DateParser.parse(text));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GregorianDate.parse(text));
+    }
+
+    /**
+     * <p>Verifica que el texto de toString se pueda interpretar.</p>
+     */
+    @Test
+    void toStringRoundTripTest() {
+        final Date date = Date.of(123456789, Month.DECEMBER, 31);
+
+        Assertions.assertEquals(date, GregorianDate.parse(date.toString()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> DateParser.parse(new byte[4], 2, 4));
+    }
+
+    /**
+     * <p>Verifica que GregorianDate.parse acepte años que no caben en una fecha empacada.</p>
+     */
+    @Test
+    void longYearRoundTripTest() {
+        final GregorianDate max = new GregorianDate(Long.MAX_VALUE, Month.DECEMBER, 31);
+        final GregorianDate wide = new GregorianDate(PackedDates.MAX_YEAR + 1, Month.FEBRUARY, 29);
+
+        Assertions.assertEquals(max, GregorianDate.parse(max.toString()));
+        Assertions.assertEquals(wide, GregorianDate.parse(wide.toString()));
+        Assertions.assertEquals(PackedDates.INVALID, DateParser.parse(wide.toString()));
+        Assertions.assertEquals(PackedDates.INVALID, DateParser.parse("123456789012345678-01-01"));
+        Assertions.assertEquals(new GregorianDate(123456789012345678L, Month.JANUARY, 1),
+                GregorianDate.parse("123456789012345678-01-01"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GregorianDate.parse("(9223372036854775808, 01, 01)"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GregorianDate.parse("(18014398509481985, 02, 29)"));
+    }
+}
@@ -0,0 +1,88 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Pruebas para los rangos de fechas.</p>
+ */
+public class DateRangeTest {
+
+    /**
+     * <p>Verifica que el stream recorra las mismas fechas que encadenar nextDay.</p>
+     */
+    @Test
+    void streamMatchesNextDayTest() {
+        final Date start          = Date.of(1999, Month.DECEMBER, 1);
+        final DateRange range     = DateRange.of(start, Date.of(2001, Month.MARCH, 1));
+        final List<Date> expected = new ArrayList<>();
+        for (Date date = start; expected.size() < range.size(); date = date.nextDay()) {
+            expected.add(date);
+        }
+
+        Assertions.assertEquals(456, range.size());
+        Assertions.assertEquals(expected, range.stream().collect(Collectors.toList()));
+        Assertions.assertEquals(expected, range.parallelStream().collect(Collectors.toList()));
+        Assertions.assertEquals(Date.of(2000, Month.FEBRUARY, 29), range.get(90));
+        Assertions.assertTrue(range.contains(Date.of(2001, Month.FEBRUARY, 28)));
+        Assertions.assertFalse(range.contains(Date.of(2001, Month.MARCH, 1)));
+    }
+
+    /**
+     * <p>Verifica contains con fechas cuyo día época no cabe en un long.</p>
+     */
+    @Test
+    void containsLongYearTest() {
+        final DateRange range = DateRange.ofEpochDays(0, Long.MAX_VALUE);
+
+        Assertions.assertTrue(range.contains(range.getStart()));
+        Assertions.assertFalse(range.contains(range.getEnd()));
+        Assertions.assertTrue(range.contains(Date.of(2024, Month.JANUARY, 1)));
+        Assertions.assertFalse(range.contains(new GregorianDate(Long.MAX_VALUE, Month.DECEMBER, 31)));
+        Assertions.assertFalse(range.contains(Date.of(1969, Month.DECEMBER, 31)));
+    }
+
+    /**
+     * <p>Verifica las características y la división a la mitad del Spliterator.</p>
+     */
+    @Test
+    void spliteratorTest() {
+        final DateRange range = DateRange.ofEpochDays(0, 11);
+        final Spliterator<GregorianDate> suffix = range.spliterator();
+        final Spliterator<GregorianDate> prefix = suffix.trySplit();
+
+        Assertions.assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.SORTED));
+        Assertions.assertNull(suffix.getComparator());
+        Assertions.assertEquals(5, prefix.estimateSize());
+        Assertions.assertEquals(6, suffix.estimateSize());
+        suffix.tryAdvance(date -> Assertions.assertEquals(GregorianDate.ofEpochDay(5), date));
+        Assertions.assertNull(DateRange.ofEpochDays(0, 1).spliterator().trySplit());
+    }
+
+    /**
+     * <p>Verifica un conteo en paralelo y los rangos inválidos.</p>
+     */
+    @Test
+    void parallelCountAndInvalidTest() {
+        final DateRange year = DateRange.of(Date.of(2024, Month.JANUARY, 1), Date.of(2025, Month.JANUARY, 1));
+
+        Assertions.assertEquals(366, year.parallelStream().count());
+        Assertions.assertEquals(53, year.parallelStream()
+                .filter(date -> date.getDayOfWeek() == DayOfWeek.MONDAY)
+                .count());
+        Assertions.assertTrue(DateRange.ofEpochDays(7, 7).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochDays(1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochDays(-200_000, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DateRange.ofEpochDays(-141_350, 0));
+        Assertions.assertEquals(Date.of(1583, Month.JANUARY, 1), DateRange.ofEpochDays(-141_349, 0).getStart());
+    }
+}
@@ -0,0 +1,88 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateSort;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>Pruebas para el ordenamiento de fechas.</p>
+ */
+public class DateSortTest {
+
+    private static final long SEED = 42;
+
+    /**
+     * <p>Verifica que compareTo ordene por año, luego mes y luego día.</p>
+     */
+    @Test
+    void compareToTest() {
+        final Date date = Date.of(2000, Month.MARCH, 15);
+
+        Assertions.assertEquals(0, date.compareTo(new GregorianDate(2000, Month.MARCH, 15)));
+        Assertions.assertTrue(date.compareTo(Date.of(2000, Month.MARCH, 16)) < 0);
+        Assertions.assertTrue(date.compareTo(Date.of(2000, Month.FEBRUARY, 29)) > 0);
+        Assertions.assertTrue(date.compareTo(Date.of(1999, Month.DECEMBER, 31)) > 0);
+        Assertions.assertTrue(date.compareTo(Date.of(Long.MAX_VALUE, Month.JANUARY, 1)) < 0);
+    }
+
+    /**
+     * <p>Verifica que el radix sort coincida con Arrays.sort para distintos tamaños.</p>
+     * @param size Cantidad de fechas.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 1000, 100_000})
+    void sortTest(int size) {
+        final Random random         = new Random(SEED);
+        final int[] epochDays       = new int[size];
+        final long[] packed         = new long[size];
+        final GregorianDate[] dates = new GregorianDate[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = random.nextInt(1_000_000) - 100_000;
+            dates[i]     = GregorianDate.ofEpochDay(epochDays[i]);
+            packed[i]    = PackedDates.of(dates[i]);
+        }
+        final int[] expectedEpochDays       = epochDays.clone();
+        final long[] expectedPacked         = packed.clone();
+        final GregorianDate[] expectedDates = dates.clone();
+        Arrays.sort(expectedEpochDays);
+        Arrays.sort(expectedPacked);
+        Arrays.sort(expectedDates);
+
+        DateSort.sort(epochDays);
+        DateSort.sort(packed);
+        DateSort.sort(dates);
+
+        Assertions.assertArrayEquals(expectedEpochDays, epochDays);
+        Assertions.assertArrayEquals(expectedPacked, packed);
+        Assertions.assertArrayEquals(expectedDates, dates);
+    }
+
+    /**
+     * <p>Verifica que el ordenamiento sea estable y que funcione con años mayores a PackedDates.MAX_YEAR.</p>
+     */
+    @Test
+    void stableAndLargeYearTest() {
+        final Date[] dates = new Date[1000];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = new GregorianDate(2000 + (dates.length - i) % 3, Month.JANUARY, 1);
+        }
+        final Date[] expected = dates.clone();
+        Arrays.sort(expected);
+
+        DateSort.sort(dates);
+        for (int i = 0; i < dates.length; i++) {
+            Assertions.assertSame(expected[i], dates[i]);
+        }
+
+        dates[0] = Date.of(Long.MAX_VALUE, Month.DECEMBER, 31);
+        DateSort.sort(dates);
+        Assertions.assertEquals(Long.MAX_VALUE, dates[dates.length - 1].getYear());
+    }
+}
@@ -2,6 +2,7 @@ import com.cenfotec.proyectoqa.api.Date;
 import com.cenfotec.proyectoqa.api.DayOfWeek;
 import com.cenfotec.proyectoqa.api.GregorianDate;
 import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -511,4 +512,167 @@ public class DateTest {
         Assertions.assertEquals(expectedMinus, date.addDays(-offset));
     }
 
+    /**
+     * <p>Prueba parametrizable para verificar addDays con desplazamientos grandes,
+     * que cruzan varios ciclos de 400 años.</p>
+     * @param offset Desplazamiento en días.
+     * @param expected Fecha esperada.
+     */
+    @ParameterizedTest
+    @MethodSource("largeOffsetProvider")
+    void addDaysLargeOffsetTest(long offset, Date expected) {
+        final Date date = Date.of(2000, Month.FEBRUARY, 29);
+
+        Assertions.assertEquals(expected, date.addDays(offset));
+        Assertions.assertEquals(date, expected.addDays(-offset));
+    }
+
+    /**
+     * <p>Provee los datos a la prueba addDaysLargeOffsetTest.</p>
+     * @return Parámetros para la prueba addDaysLargeOffsetTest.
+     */
+    static Stream<Arguments> largeOffsetProvider() {
+        final long daysInCycle = 146097;
+        return Stream.of(
+                Arguments.of(daysInCycle, Date.of(2400, Month.FEBRUARY, 29)),
+                Arguments.of(daysInCycle * 1000, Date.of(402000, Month.FEBRUARY, 29)),
+                Arguments.of(36524L, Date.of(2100, Month.FEBRUARY, 28)),
+                Arguments.of(1461L, Date.of(2004, Month.FEBRUARY, 29)),
+                Arguments.of(10000000L, Date.of(29379, Month.MARCH, 26)),
+                Arguments.of(-150000L, Date.of(1589, Month.JUNE, 23)));
+    }
+
+    /**
+     * <p>Prueba para verificar addDays en años cercanos al límite de long.</p>
+     */
+    @Test
+    void addDaysMaxYearTest() {
+        final Date lastDay = Date.of(Long.MAX_VALUE, Month.DECEMBER, 31);
+
+        Assertions.assertEquals(lastDay,
+                Date.of(Long.MAX_VALUE, Month.JANUARY, 1).addDays(364));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> lastDay.addDays(1));
+    }
+
+    /**
+     * <p>Prueba parametrizable para verificar la conversión a día época y su operación inversa.</p>
+     * @param date Fecha
+     * @param epochDay Día época esperado.
+     */
+    @ParameterizedTest
+    @MethodSource("epochDayProvider")
+    void epochDayTest(Date date, long epochDay) {
+        Assertions.assertEquals(epochDay, date.toEpochDay());
+        Assertions.assertEquals(date, GregorianDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * <p>Provee los datos a la prueba epochDayTest.</p>
+     * @return Parámetros para la prueba epochDayTest.
+     */
+    static Stream<Arguments> epochDayProvider() {
+        return Stream.of(
+                Arguments.of(Date.of(1970, Month.JANUARY, 1), 0L),
+                Arguments.of(Date.of(2000, Month.JANUARY, 1), 10957L),
+                Arguments.of(Date.of(1583, Month.JANUARY, 1), -141349L),
+                Arguments.of(Date.of(2018, Month.MAY, 27), 17678L),
+                Arguments.of(Date.of(2100, Month.MARCH, 1), 47541L));
+    }
+
+    /**
+     * <p>Pruebas de valores límite para la conversión a día época.</p>
+     */
+    @Test
+    void epochDayBoundaryTest() {
+        final long firstEpochDay = -141349;
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GregorianDate.ofEpochDay(firstEpochDay - 1));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> Date.of(Long.MAX_VALUE, Month.JANUARY, 1).toEpochDay());
+        Assertions.assertEquals(Long.MAX_VALUE,
+                GregorianDate.ofEpochDay(Long.MAX_VALUE).toEpochDay());
+    }
+
+    /**
+     * <p>Prueba para el método que calcula los días entre dos fechas.</p>
+     */
+    @Test
+    void daysBetweenTest() {
+        final Date start  = Date.of(1600, Month.FEBRUARY, 1);
+        final Date end    = Date.of(1605, Month.NOVEMBER, 11);
+        final long offset = 2110;
+
+        Assertions.assertEquals(offset, start.daysUntil(end));
+        Assertions.assertEquals(-offset, end.daysUntil(start));
+        Assertions.assertEquals(0, start.daysUntil(start));
+        Assertions.assertEquals(offset, GregorianDate.daysBetween(start, end));
+    }
+
+    /**
+     * <p>Prueba para verificar que daysUntil funcione en años cuyo día época no se puede representar.</p>
+     */
+    @Test
+    void daysUntilMaxYearTest() {
+        final Date start  = Date.of(Long.MAX_VALUE - 1000, Month.MARCH, 1);
+        final long offset = 300000;
+
+        Assertions.assertEquals(offset, start.daysUntil(start.addDays(offset)));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> GregorianDate.daysBetween(Date.of(1600, Month.JANUARY, 1), start));
+    }
+
+    /**
+     * <p>Prueba para verificar que isValidDate retorne false para años anteriores a 1583 en vez de lanzar una
+     * excepción al calcular si febrero es bisiesto.</p>
+     */
+    @Test
+    void isValidDateInvalidYearTest() {
+        Assertions.assertFalse(GregorianDate.isValidDate(1500, Month.FEBRUARY, 1));
+        Assertions.assertFalse(GregorianDate.isValidDate(1582, Month.FEBRUARY, 29));
+        Assertions.assertTrue(GregorianDate.isValidDate(1600, Month.FEBRUARY, 29));
+    }
+
+    /**
+     * <p>Prueba para verificar que tryOf retorne la fecha empacada o PackedDates.INVALID sin lanzar excepciones.</p>
+     */
+    @Test
+    void tryOfTest() {
+        final long packed = GregorianDate.tryOf(2024, Month.FEBRUARY, 29);
+
+        Assertions.assertEquals(PackedDates.of(2024, 2, 29), packed);
+        Assertions.assertEquals(Date.of(2024, Month.FEBRUARY, 29), PackedDates.toDate(packed));
+        Assertions.assertEquals(PackedDates.INVALID, GregorianDate.tryOf(2023, 2, 29));
+        Assertions.assertEquals(PackedDates.INVALID, GregorianDate.tryOf(2023, 13, 1));
+        Assertions.assertEquals(PackedDates.INVALID, GregorianDate.tryOf(1500, 1, 1));
+        Assertions.assertEquals(PackedDates.INVALID, GregorianDate.tryOf(2023, null, 1));
+        Assertions.assertEquals(PackedDates.INVALID, GregorianDate.tryOf(Long.MAX_VALUE, 1, 1));
+    }
+
+    /**
+     * <p>Prueba para verificar que los campos derivados que se guardan en la instancia coincidan con
+     * java.time.LocalDate, dentro y fuera de YearTable.shared() (1583 a 2582), y que se mantengan al consultarlos
+     * varias veces desde varios hilos.</p>
+     */
+    @Test
+    void derivedFieldsTest() {
+        final java.time.LocalDate start = java.time.LocalDate.of(1583, 1, 1);
+        for (long epochDay = start.toEpochDay(); epochDay < start.toEpochDay() + 1100 * 366; epochDay += 5) {
+            final java.time.LocalDate expected = java.time.LocalDate.ofEpochDay(epochDay);
+            final GregorianDate date           = GregorianDate.ofEpochDay(epochDay);
+            for (int i = 0; i < 2; i++) {
+                Assertions.assertEquals(expected.getDayOfYear(), date.getYearDays());
+                Assertions.assertEquals(expected.isLeapYear(), date.isLeapYear());
+                Assertions.assertEquals(expected.getDayOfWeek().getValue() % 7, date.getDayOfWeek().ordinal());
+                Assertions.assertEquals(epochDay, date.toEpochDay());
+            }
+        }
+
+        final GregorianDate shared = new GregorianDate(Long.MAX_VALUE - 1003, Month.DECEMBER, 31);
+        final DayOfWeek expected   = new GregorianDate(Long.MAX_VALUE - 1003, Month.DECEMBER, 31).getDayOfWeek();
+        Assertions.assertTrue(Stream.generate(() -> shared).limit(1000).parallel()
+                .allMatch(date -> date.getDayOfWeek() == expected && date.getYearDays() == 366));
+    }
+
 }
@@ -0,0 +1,121 @@
+import com.cenfotec.proyectoqa.api.DateParser;
+import com.cenfotec.proyectoqa.api.DateValidator;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * <p>Pruebas para la validación masiva de fechas.</p>
+ */
+public class DateValidatorTest {
+
+    /**
+     * <p>Verifica los motivos de las fechas inválidas.</p>
+     */
+    @Test
+    void checkTest() {
+        Assertions.assertNull(DateValidator.check(2024, 2, 29));
+        Assertions.assertEquals(DateValidator.Reason.YEAR, DateValidator.check(1500, 2, 29));
+        Assertions.assertEquals(DateValidator.Reason.YEAR, DateValidator.check(1582, 13, 1));
+        Assertions.assertEquals(DateValidator.Reason.MONTH, DateValidator.check(2024, 0, 1));
+        Assertions.assertEquals(DateValidator.Reason.MONTH, DateValidator.check(2024, 13, 1));
+        Assertions.assertEquals(DateValidator.Reason.DAY, DateValidator.check(2023, 2, 29));
+        Assertions.assertEquals(DateValidator.Reason.DAY, DateValidator.check(2023, 4, 31));
+        Assertions.assertEquals(DateValidator.Reason.DAY, DateValidator.check(2023, 1, 0));
+    }
+
+    /**
+     * <p>Verifica que las demás validaciones usen las mismas reglas y que solo PackedDates limite el año.</p>
+     */
+    @Test
+    void sharedRulesTest() {
+        final long[] years = {1582, 1583, 1900, 2000, 2023, 2024, PackedDates.MAX_YEAR};
+        for (long year : years) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    final boolean valid = DateValidator.check(year, month, day) == null;
+                    Assertions.assertEquals(valid, PackedDates.isValid(year, month, day));
+                    Assertions.assertEquals(valid, GregorianDate.tryOf(year, month, day) != PackedDates.INVALID);
+                    if (month >= 1 && month <= 12) {
+                        Assertions.assertEquals(valid, GregorianDate.isValidDate(year, Month.fromNumber(month), day));
+                    }
+                }
+            }
+        }
+        final long beyond = PackedDates.MAX_YEAR + 1;
+        Assertions.assertNull(DateValidator.check(beyond, 2, 28));
+        Assertions.assertTrue(GregorianDate.isValidDate(beyond, Month.FEBRUARY, 28));
+        Assertions.assertFalse(PackedDates.isValid(beyond, 2, 28));
+        Assertions.assertFalse(GregorianDate.isValidDate(2024, null, 1));
+    }
+
+    /**
+     * <p>Verifica el mapa de bits y los conteos al validar columnas por partes.</p>
+     */
+    @Test
+    void columnsTest() {
+        final int size      = 1000;
+        final long[] years  = new long[size];
+        final int[] months  = new int[size];
+        final int[] days    = new int[size];
+        final BitSet bad    = new BitSet();
+        for (int i = 0; i < size; i++) {
+            years[i]  = 2000 + i % 10;
+            months[i] = 1 + i % 12;
+            days[i]   = 1 + i % 28;
+            if (i % 97 == 0) {
+                months[i] = 14;
+                bad.set(i);
+            }
+        }
+
+        final DateValidator validator = new DateValidator();
+        Assertions.assertEquals(6, validator.accept(years, months, days, 0, 500));
+        Assertions.assertEquals(5, validator.accept(years, months, days, 500, 500));
+        Assertions.assertFalse(validator.accept(1000, 1, 1));
+
+        bad.set(size);
+        Assertions.assertEquals(size + 1, validator.rows());
+        Assertions.assertEquals(12, validator.invalidRows());
+        Assertions.assertEquals(11, validator.count(DateValidator.Reason.MONTH));
+        Assertions.assertEquals(1, validator.count(DateValidator.Reason.YEAR));
+        Assertions.assertEquals(bad, validator.toBitSet());
+        Assertions.assertTrue(validator.isInvalid(194));
+        Assertions.assertFalse(validator.isInvalid(195));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> validator.isInvalid(size + 1));
+
+        validator.reset();
+        Assertions.assertEquals(0, validator.rows());
+        Assertions.assertEquals(0, validator.invalidRows());
+    }
+
+    /**
+     * <p>Verifica la validación de líneas de texto con sus motivos.</p>
+     */
+    @Test
+    void linesTest() {
+        final String text = "2024-02-29\n(2023, 02, 29)\r\n1500-01-01\n2024-13-01\nhello\n\n2024-01-31";
+        final ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+
+        final DateValidator validator = new DateValidator();
+        Assertions.assertEquals(5, validator.acceptLines(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+        Assertions.assertEquals(7, validator.rows());
+        Assertions.assertEquals(1, validator.count(DateValidator.Reason.DAY));
+        Assertions.assertEquals(1, validator.count(DateValidator.Reason.YEAR));
+        Assertions.assertEquals(1, validator.count(DateValidator.Reason.MONTH));
+        Assertions.assertEquals(2, validator.count(DateValidator.Reason.SYNTAX));
+        Assertions.assertArrayEquals(new long[] {0b111110}, validator.invalidBitmap());
+
+        final byte[] bytes = "x2024-01-01\n99999999999999999-01-01x".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(1, validator.acceptLines(bytes, 1, bytes.length - 2));
+        Assertions.assertEquals(2, validator.count(DateValidator.Reason.YEAR));
+        Assertions.assertEquals(PackedDates.INVALID, DateParser.parse("2023-02-29"));
+    }
+}
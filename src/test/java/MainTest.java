@@ -0,0 +1,69 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <p>Pruebas para la herramienta de línea de comandos.</p>
+ * <p>El archivo de entrada mezcla saltos de línea \n y \r\n, líneas inválidas y una última línea sin salto de
+ * línea. Los bloques son de 16 bytes, así casi todas las líneas cruzan el límite nominal de un bloque.</p>
+ */
+public class MainTest {
+
+    private static final String CHUNK_SIZE = "proyectoqa.main.chunkSize";
+
+    private static final String INPUT = "2024-02-28\n"
+            + "2024-02-29\r\n"
+            + "(2023, 12, 31)\n"
+            + "2023-02-29\n"
+            + "garbage\r\n"
+            + "\n"
+            + "1999-12-31";
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty(CHUNK_SIZE, "16");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(CHUNK_SIZE);
+    }
+
+    /**
+     * <p>Verifica cada operación, una línea de salida por cada línea de entrada.</p>
+     * @param operation Operación.
+     * @param days Días de adddays o vacío.
+     * @param expected Líneas de salida separadas por espacios.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "dayofweek, , WEDNESDAY THURSDAY SUNDAY INVALID INVALID INVALID FRIDAY",
+            "nextday, , 2024-02-29 2024-03-01 2024-01-01 INVALID INVALID INVALID 2000-01-01",
+            "adddays, 366, 2025-02-28 2025-03-01 2024-12-31 INVALID INVALID INVALID 2000-12-31",
+            "adddays, -1, 2024-02-27 2024-02-28 2023-12-30 INVALID INVALID INVALID 1999-12-30",
+            "leap, , true true false INVALID INVALID INVALID false",
+            "VALIDATE, , true true true false false false true"
+    })
+    void operationTest(final String operation, final String days, final String expected) throws Exception {
+        final Path input  = directory.resolve("input.txt");
+        final Path output = directory.resolve("output.txt");
+        Files.write(input, INPUT.getBytes(StandardCharsets.US_ASCII));
+
+        Main.main(days == null
+                ? new String[] {operation, input.toString(), output.toString()}
+                : new String[] {operation, input.toString(), output.toString(), days});
+
+        Assertions.assertEquals(expected.replace(' ', '\n') + "\n",
+                new String(Files.readAllBytes(output), StandardCharsets.US_ASCII));
+    }
+}
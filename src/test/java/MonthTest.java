@@ -74,6 +74,18 @@ public class MonthTest {
         Assertions.assertEquals(Month.fromNumber(12), Month.DECEMBER);
     }
 
+    /**
+     * <p>Pruebas para tryFromNumber, que no lanza excepciones y reutiliza los Optional.</p>
+     */
+    @Test
+    void tryFromNumberTest() {
+        Assertions.assertFalse(Month.tryFromNumber(0).isPresent());
+        Assertions.assertFalse(Month.tryFromNumber(13).isPresent());
+        Assertions.assertEquals(Month.JANUARY, Month.tryFromNumber(1).get());
+        Assertions.assertEquals(Month.DECEMBER, Month.tryFromNumber(12).get());
+        Assertions.assertSame(Month.tryFromNumber(5), Month.tryFromNumber(5));
+    }
+
     /**
      * <p>Pruebas para el método offset.</p>
      */
@@ -0,0 +1,92 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.PackedDates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * <p>Pruebas para las fechas empacadas.</p>
+ */
+public class PackedDatesTest {
+
+    /**
+     * <p>Verifica que las operaciones sobre la fecha empacada coincidan con GregorianDate
+     * para el primer y último día de cada mes.</p>
+     * @param month Mes
+     */
+    @ParameterizedTest
+    @EnumSource(Month.class)
+    void matchesGregorianDateTest(Month month) {
+        final long year   = 2000;
+        final long offset = 1000;
+        final int lastDay = month.getDays() + (month == Month.FEBRUARY ? 1 : 0);
+
+        for (int day : new int[] {1, lastDay}) {
+            final Date date   = Date.of(year, month, day);
+            final long packed = PackedDates.of(date);
+
+            Assertions.assertEquals(date, PackedDates.toDate(packed));
+            Assertions.assertEquals(date.getYearDays(), PackedDates.yearDays(packed));
+            Assertions.assertEquals(date.getDayOfWeek(), PackedDates.dayOfWeek(packed));
+            Assertions.assertEquals(date.toEpochDay(), PackedDates.toEpochDay(packed));
+            Assertions.assertEquals(packed, PackedDates.ofEpochDay(date.toEpochDay()));
+            Assertions.assertEquals(PackedDates.of(date.addDays(offset)), PackedDates.addDays(packed, offset));
+            Assertions.assertEquals(PackedDates.of(date.nextDay()), PackedDates.nextDay(packed));
+        }
+    }
+
+    /**
+     * <p>Pruebas de particiones de equivalencia para la validación sin excepciones.</p>
+     */
+    @Test
+    void isValidTest() {
+        Assertions.assertTrue(PackedDates.isValid(1724, 2, 29));
+        Assertions.assertFalse(PackedDates.isValid(1721, 2, 29));
+        Assertions.assertFalse(PackedDates.isValid(1582, 2, 15));
+        Assertions.assertFalse(PackedDates.isValid(2000, 0, 15));
+        Assertions.assertFalse(PackedDates.isValid(2000, 13, 15));
+        Assertions.assertFalse(PackedDates.isValid(2000, 4, 31));
+        Assertions.assertFalse(PackedDates.isValid(PackedDates.MAX_YEAR + 1, 1, 1));
+        Assertions.assertFalse(PackedDates.isValid(PackedDates.INVALID));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PackedDates.of(1721, 2, 29));
+    }
+
+    /**
+     * <p>Verifica que el orden de los valores empacados sea el orden cronológico.</p>
+     */
+    @Test
+    void compareTest() {
+        final long first  = PackedDates.of(1999, Month.DECEMBER, 31);
+        final long second = PackedDates.of(2000, Month.JANUARY, 1);
+        final long third  = PackedDates.of(2000, Month.JANUARY, 2);
+
+        Assertions.assertTrue(PackedDates.compare(first, second) < 0);
+        Assertions.assertTrue(PackedDates.compare(third, second) > 0);
+        Assertions.assertEquals(0, PackedDates.compare(second, second));
+        Assertions.assertEquals(2, PackedDates.daysBetween(first, third));
+    }
+
+    /**
+     * <p>Pruebas de valores límite para el desplazamiento de fechas empacadas.</p>
+     */
+    @Test
+    void addDaysBoundaryTest() {
+        final long first = PackedDates.of(1583, Month.JANUARY, 1);
+        final long last  = PackedDates.of(PackedDates.MAX_YEAR, Month.DECEMBER, 31);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PackedDates.addDays(first, -1));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> PackedDates.addDays(last, 1));
+        Assertions.assertEquals(DayOfWeek.SATURDAY,
+                PackedDates.dayOfWeek(PackedDates.of(1583, Month.JANUARY, 1)));
+        Assertions.assertTrue(GregorianDate.isLeapYear(2000)
+                && PackedDates.isLeapYear(PackedDates.of(2000, Month.MARCH, 1)));
+    }
+}
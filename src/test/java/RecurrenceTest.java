@@ -0,0 +1,122 @@
+import com.cenfotec.proyectoqa.api.BusinessCalendar;
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.Recurrence;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Pruebas para las reglas de recurrencia.</p>
+ */
+public class RecurrenceTest {
+
+    private static final Date START = Date.of(2023, Month.NOVEMBER, 15);
+    private static final Date END   = Date.of(2028, Month.MARCH, 10);
+
+    /**
+     * <p>Verifica el n-ésimo día de la semana contra un recorrido día por día.</p>
+     * @param n Posición del día dentro del mes.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5, -1, -5})
+    void nthWeekdayOfMonthTest(int n) {
+        final Predicate<GregorianDate> expected = date -> {
+            final int week     = (date.getDay() - 1) / 7 + 1;
+            final int lastWeek = (lengthOfMonth(date) - date.getDay()) / 7 + 1;
+            return date.getDayOfWeek() == DayOfWeek.TUESDAY && (n > 0 ? week == n : lastWeek == -n);
+        };
+
+        assertMatches(expected, Recurrence.nthWeekdayOfMonth(n, DayOfWeek.TUESDAY));
+    }
+
+    /**
+     * <p>Verifica el último día hábil de cada mes contra un recorrido día por día.</p>
+     */
+    @Test
+    void lastBusinessDayOfMonthTest() {
+        final BusinessCalendar calendar = BusinessCalendar.saturdayAndSunday(
+                Date.of(2024, Month.MAY, 31), Date.of(2025, Month.DECEMBER, 31));
+        final Predicate<GregorianDate> expected = date -> {
+            if (!calendar.isBusinessDay(date)) {
+                return false;
+            }
+            for (Date next = date.nextDay(); next.getMonth() == date.getMonth(); next = next.nextDay()) {
+                if (calendar.isBusinessDay(next)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        assertMatches(expected, Recurrence.lastBusinessDayOfMonth(calendar));
+        Assertions.assertEquals(Date.of(2024, Month.MAY, 30),
+                Recurrence.lastBusinessDayOfMonth(calendar).next(Date.of(2024, Month.MAY, 1)));
+    }
+
+    /**
+     * <p>Verifica la recurrencia cada n días y el 29 de febrero ajustado al 28 en años no bisiestos.</p>
+     */
+    @Test
+    void everyNDaysAndYearlyTest() {
+        final Date anchor = Date.of(2024, Month.JANUARY, 3);
+        assertMatches(date -> date.compareTo(anchor) >= 0 && anchor.daysUntil(date) % 14 == 0,
+                Recurrence.everyNDays(anchor, 14));
+
+        final List<Date> leapDays = Recurrence.yearly(Month.FEBRUARY, 29).stream(START, END)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(
+                Date.of(2024, Month.FEBRUARY, 29),
+                Date.of(2025, Month.FEBRUARY, 28),
+                Date.of(2026, Month.FEBRUARY, 28),
+                Date.of(2027, Month.FEBRUARY, 28),
+                Date.of(2028, Month.FEBRUARY, 29)), leapDays);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Recurrence.yearly(Month.APRIL, 31));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Recurrence.everyNDays(anchor, 0));
+
+        final long first     = anchor.toEpochDay();
+        final long half      = Long.MAX_VALUE / 2 + 1000;
+        final Recurrence far = Recurrence.everyNDays(anchor, half);
+        Assertions.assertEquals(first + half, far.nextEpochDay(first + half - 5));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> Recurrence.everyNDays(anchor, Long.MAX_VALUE).nextEpochDay(first + 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Recurrence.nthWeekdayOfMonth(6, DayOfWeek.MONDAY));
+    }
+
+    /**
+     * @param expected Predicado que determina si una fecha es una ocurrencia.
+     * @param recurrence Regla de recurrencia.
+     */
+    private static void assertMatches(Predicate<GregorianDate> expected, Recurrence recurrence) {
+        final List<GregorianDate> occurrences = DateRange.of(START, END).stream()
+                .filter(expected)
+                .collect(Collectors.toList());
+        final Iterator<GregorianDate> iterator = recurrence.iterator(START, END);
+
+        Assertions.assertFalse(occurrences.isEmpty());
+        Assertions.assertEquals(occurrences, recurrence.stream(START, END).collect(Collectors.toList()));
+        for (GregorianDate occurrence : occurrences) {
+            Assertions.assertEquals(occurrence, iterator.next());
+        }
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * @param date Fecha.
+     * @return Cantidad de días del mes de la fecha.
+     */
+    private static int lengthOfMonth(Date date) {
+        return date.getMonth().getDays() + (date.getMonth() == Month.FEBRUARY && date.isLeapYear() ? 1 : 0);
+    }
+}
@@ -0,0 +1,60 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DateRange;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.Weekdays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * <p>Pruebas para el conteo de días de la semana.</p>
+ */
+public class WeekdaysTest {
+
+    private static final long SEED = 11;
+
+    /**
+     * <p>Compara el conteo contra un recorrido día por día para intervalos aleatorios.</p>
+     */
+    @Test
+    void matchesDayByDayTest() {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < 200; i++) {
+            final long startEpochDay = random.nextInt(20_000);
+            final Date start         = GregorianDate.ofEpochDay(startEpochDay);
+            final Date end           = GregorianDate.ofEpochDay(startEpochDay + random.nextInt(60));
+            final int mask           = random.nextInt(1 << 7);
+            final long[] expected    = new long[7];
+            DateRange.of(start, end).forEach(date -> expected[date.getDayOfWeek().ordinal()]++);
+
+            long expectedMask = 0;
+            for (DayOfWeek day : DayOfWeek.values()) {
+                expectedMask += (mask & day.mask()) != 0 ? expected[day.ordinal()] : 0;
+                Assertions.assertEquals(expected[day.ordinal()], Weekdays.count(start, end, day));
+            }
+            Assertions.assertArrayEquals(expected, Weekdays.countAll(start, end));
+            Assertions.assertEquals(expectedMask, Weekdays.count(start, end, mask));
+            Assertions.assertEquals(-expectedMask, Weekdays.count(end, start, mask));
+        }
+    }
+
+    /**
+     * <p>Verifica casos conocidos, incluso con años muy grandes.</p>
+     */
+    @Test
+    void knownCountsTest() {
+        final Date start = Date.of(2024, Month.JANUARY, 1);
+        final Date end   = Date.of(2025, Month.JANUARY, 1);
+        final Date far   = Date.of(Long.MAX_VALUE - 1, Month.JANUARY, 1);
+
+        Assertions.assertEquals(53, Weekdays.count(start, end, DayOfWeek.MONDAY));
+        Assertions.assertEquals(52, Weekdays.count(start, end, DayOfWeek.SATURDAY));
+        Assertions.assertEquals(104,
+                Weekdays.count(start, end, DayOfWeek.mask(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)));
+        Assertions.assertEquals(52, Weekdays.count(far, far.addDays(364), DayOfWeek.mask(far.getDayOfWeek())));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Weekdays.count(start, end, 1 << 7));
+    }
+}
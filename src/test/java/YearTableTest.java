@@ -0,0 +1,67 @@
+import com.cenfotec.proyectoqa.api.Date;
+import com.cenfotec.proyectoqa.api.DayOfWeek;
+import com.cenfotec.proyectoqa.api.GregorianDate;
+import com.cenfotec.proyectoqa.api.Month;
+import com.cenfotec.proyectoqa.api.YearTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <p>Pruebas para la tabla precalculada de años.</p>
+ */
+public class YearTableTest {
+
+    /**
+     * <p>Verifica que los valores de la tabla coincidan con la aritmética de las fechas.</p>
+     */
+    @Test
+    void matchesArithmeticTest() {
+        final long minYear    = 1890;
+        final long maxYear    = 2110;
+        final YearTable table = new YearTable(minYear, maxYear);
+
+        for (long year = minYear; year <= maxYear; year++) {
+            final Date first = Date.of(year, Month.JANUARY, 1);
+            final Date last  = Date.of(year, Month.DECEMBER, 31);
+
+            Assertions.assertEquals(GregorianDate.isLeapYear(year), table.isLeapYear(year));
+            Assertions.assertEquals(first.getDayOfWeek(), table.firstDayOfWeek(year));
+            Assertions.assertEquals(first.toEpochDay(), table.firstEpochDay(year));
+            Assertions.assertEquals(last.getDayOfWeek(), table.dayOfWeek(year, last.getYearDays()));
+            Assertions.assertEquals(last.toEpochDay(), table.epochDay(year, last.getYearDays()));
+        }
+    }
+
+    /**
+     * <p>Verifica que las fechas dentro y fuera de la tabla compartida calculen el mismo día de la semana.</p>
+     */
+    @Test
+    void sharedTableBoundaryTest() {
+        final YearTable table = YearTable.shared();
+        final long lastYear   = table.getMaxYear();
+        final Date inside     = Date.of(lastYear, Month.DECEMBER, 31);
+        final Date outside    = inside.nextDay();
+
+        Assertions.assertTrue(table.contains(inside.getYear()));
+        Assertions.assertFalse(table.contains(outside.getYear()));
+        Assertions.assertEquals(DayOfWeek.ofIndex((inside.getDayOfWeek().ordinal() + 1) % 7),
+                outside.getDayOfWeek());
+        Assertions.assertEquals(inside.toEpochDay() + 1, outside.toEpochDay());
+    }
+
+    /**
+     * <p>Pruebas de valores límite para el rango de la tabla.</p>
+     */
+    @Test
+    void rangeBoundaryTest() {
+        final long firstYear = 1583;
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new YearTable(firstYear - 1, firstYear));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new YearTable(firstYear, firstYear - 2));
+        Assertions.assertFalse(new YearTable(firstYear, firstYear - 1).contains(firstYear));
+        Assertions.assertEquals(DayOfWeek.SATURDAY,
+                new YearTable(firstYear, firstYear).firstDayOfWeek(firstYear));
+    }
+}